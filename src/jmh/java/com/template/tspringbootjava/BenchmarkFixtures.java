@@ -0,0 +1,56 @@
+package com.template.tspringbootjava;
+
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 테스트 데이터 (DB, Redis 없이 메모리에서 생성)
+ */
+public final class BenchmarkFixtures {
+
+    private static final Instant BASE_TIME = Instant.parse("2025-01-01T00:00:00.123Z");
+
+    private BenchmarkFixtures() {
+    }
+
+    public static UserEntity userEntity(long id) {
+        Instant time = BASE_TIME.plusSeconds(id);
+        return UserEntity.builder()
+                .id(id)
+                .email("user" + id + "@example.com")
+                .password("password" + id)
+                .name("홍길동" + id)
+                .phoneNumber("010-1234-5678")
+                .status(UserStatus.ACTIVE)
+                .createdAt(time)
+                .updatedAt(time)
+                .version(0L)
+                .build();
+    }
+
+    public static List<UserEntity> userEntities(int size) {
+        List<UserEntity> entities = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entities.add(userEntity(i + 1));
+        }
+        return entities;
+    }
+
+    public static UserResponseDto user(long id) {
+        return UserResponseDto.from(userEntity(id));
+    }
+
+    public static PageResponseDto<UserResponseDto> page(int size) {
+        List<UserResponseDto> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(user(i + 1));
+        }
+        return new PageResponseDto<>(content, 0, size, 10_000, 10_000 / size, true, false);
+    }
+}
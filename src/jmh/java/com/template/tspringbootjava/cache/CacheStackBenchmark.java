@@ -0,0 +1,109 @@
+package com.template.tspringbootjava.cache;
+
+import com.template.tspringbootjava.BenchmarkFixtures;
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "users" 캐시 decorator 구성 (CacheConfig와 동일한 순서)
+ * - RefreshAheadCache -> SingleFlightCache -> TwoLevelCache -> remote
+ * - remote: ConcurrentMapCache (Redis 대체, 네트워크/직렬화 제외)
+ * - loader: Map 기반 repository 대체
+ * - l1Hit: L1 hit, l2Hit: L1 miss + remote hit, miss: 전체 miss + 로딩/저장
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheStackBenchmark {
+
+    private static final int USERS = 1_000;
+
+    private final Map<Long, UserEntity> repository = new HashMap<>();
+
+    private ExecutorService refreshExecutor;
+    private Cache remote;
+    private TwoLevelCache twoLevelCache;
+    private Cache cache;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        for (long id = 1; id <= USERS; id++) {
+            repository.put(id, BenchmarkFixtures.userEntity(id));
+        }
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        remote = new ConcurrentMapCache("users", false);
+        twoLevelCache = new TwoLevelCache("users",
+                new NearCacheProperties.CacheSpec(10_000, Duration.ofSeconds(10)),
+                remote, null, meterRegistry);
+        Cache singleFlight = new SingleFlightCache(twoLevelCache,
+                new SingleFlightProperties.Lease(false, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMillis(20)),
+                null, meterRegistry);
+        cache = new RefreshAheadCache(singleFlight,
+                new RefreshAheadProperties.CacheSpec(Duration.ofMinutes(1), Duration.ofSeconds(15), Duration.ofSeconds(30), 1.0),
+                refreshExecutor, meterRegistry);
+
+        for (long id = 1; id <= USERS; id++) {
+            long key = id;
+            cache.get(key, () -> load(key));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private UserResponseDto load(long id) {
+        UserEntity entity = repository.get(id);
+        return (entity != null) ? UserResponseDto.from(entity) : null;
+    }
+
+    private long nextKey() {
+        nextId = (nextId % USERS) + 1;
+        return nextId;
+    }
+
+    @Benchmark
+    public UserResponseDto l1Hit() {
+        long key = nextKey();
+        return cache.get(key, () -> load(key));
+    }
+
+    @Benchmark
+    public UserResponseDto l2Hit() {
+        long key = nextKey();
+        twoLevelCache.evictLocal(String.valueOf(key));
+        return cache.get(key, () -> load(key));
+    }
+
+    @Benchmark
+    public UserResponseDto miss() {
+        long key = nextKey();
+        remote.evict(key);
+        twoLevelCache.evictLocal(String.valueOf(key));
+        return cache.get(key, () -> load(key));
+    }
+}
@@ -0,0 +1,63 @@
+package com.template.tspringbootjava.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.template.tspringbootjava.BenchmarkFixtures;
+import com.template.tspringbootjava.config.RedisConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 Serializer 비교 (GenericJackson2JsonRedisSerializer vs CompactBinaryRedisSerializer)
+ * - 크기: CompactBinaryRedisSerializerTest 에서 검증 (측정 출력에 섞이지 않도록 벤치마크에서는 출력하지 않음)
+ * - 시간: encode / decode
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"user", "page10", "page100"})
+    public String payload;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper redisObjectMapper = new RedisConfig().redisObjectMapper();
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        serializer = "binary".equals(format) ? new CompactBinaryRedisSerializer(json) : json;
+
+        value = switch (payload) {
+            case "user" -> BenchmarkFixtures.user(1);
+            case "page10" -> BenchmarkFixtures.page(10);
+            case "page100" -> BenchmarkFixtures.page(100);
+            default -> throw new IllegalArgumentException(payload);
+        };
+        encoded = serializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(encoded);
+    }
+}
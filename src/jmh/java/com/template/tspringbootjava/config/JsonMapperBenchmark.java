@@ -0,0 +1,64 @@
+package com.template.tspringbootjava.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.template.tspringbootjava.BenchmarkFixtures;
+import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObjectMapper 직렬화/역직렬화 (RedisConfig)
+ * - api: API 응답용 objectMapper (타입 정보 없음)
+ * - redis: redisObjectMapper (default typing, PageResponseDto MixIn)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonMapperBenchmark {
+
+    @Param({"api", "redis"})
+    public String mapper;
+
+    @Param({"user", "page100"})
+    public String payload;
+
+    private ObjectMapper objectMapper;
+    private Object value;
+    private Class<?> type;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        RedisConfig redisConfig = new RedisConfig();
+        objectMapper = "redis".equals(mapper) ? redisConfig.redisObjectMapper() : redisConfig.objectMapper();
+
+        if ("user".equals(payload)) {
+            value = BenchmarkFixtures.user(1);
+            type = UserResponseDto.class;
+        } else {
+            value = BenchmarkFixtures.page(100);
+            type = PageResponseDto.class;
+        }
+        encoded = objectMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        return objectMapper.readValue(encoded, type);
+    }
+}
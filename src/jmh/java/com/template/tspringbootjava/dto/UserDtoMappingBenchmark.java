@@ -0,0 +1,67 @@
+package com.template.tspringbootjava.dto;
+
+import com.template.tspringbootjava.BenchmarkFixtures;
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 응답 변환 (Entity -> DTO)
+ * - UserResponseDto.from
+ * - PageResponseDto.from(Page) (exactCount = true), PageResponseDto.from(Slice, total) (추정 개수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserDtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private UserEntity entity;
+    private Page<UserEntity> page;
+    private Slice<UserEntity> slice;
+
+    @Setup
+    public void setUp() {
+        entity = BenchmarkFixtures.userEntity(1);
+
+        List<UserEntity> content = BenchmarkFixtures.userEntities(pageSize);
+        Pageable pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        page = new PageImpl<>(content, pageable, 10_000);
+        slice = new SliceImpl<>(content, pageable, true);
+    }
+
+    @Benchmark
+    public UserResponseDto userFrom() {
+        return UserResponseDto.from(entity);
+    }
+
+    @Benchmark
+    public PageResponseDto<UserResponseDto> pageFrom() {
+        return PageResponseDto.from(page.map(UserResponseDto::from));
+    }
+
+    @Benchmark
+    public PageResponseDto<UserResponseDto> sliceFrom() {
+        return PageResponseDto.from(slice.map(UserResponseDto::from), 10_000);
+    }
+}
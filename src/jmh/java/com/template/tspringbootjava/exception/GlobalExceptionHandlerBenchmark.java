@@ -0,0 +1,98 @@
+package com.template.tspringbootjava.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.template.tspringbootjava.config.RedisConfig;
+import com.template.tspringbootjava.controller.v1.user.UserController;
+import com.template.tspringbootjava.dto.user.UserCreateRequestDto;
+import com.template.tspringbootjava.exception.dto.CustomErrorResponse;
+import com.template.tspringbootjava.exception.errorcode.CommonErrorCode;
+import com.template.tspringbootjava.exception.errorcode.ErrorCode;
+import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오류 응답 생성 (GlobalExceptionHandler) + 응답 JSON 직렬화
+ * - customException: 예상된 오류(404) 생성(stackless) + 처리
+ * - customExceptionWithStackTrace: 같은 처리, stack trace 를 생성하는 오류 코드(5xx) 사용 (비교 기준)
+ * - stackDepth: 예외 생성 시점의 호출 깊이 (Spring MVC 요청 처리 중 깊이는 보통 100 이상)
+ * - validationException: 필드 오류 3개
+ * - 로그는 appender 없이 이벤트 생성까지만 측정 (src/jmh/resources/logback.xml)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private MethodArgumentNotValidException validationException;
+
+    @Param({"10", "150"})
+    private int stackDepth;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        objectMapper = new RedisConfig().objectMapper();
+        request = new MockHttpServletRequest("POST", "/api/v1/users");
+
+        UserCreateRequestDto body = new UserCreateRequestDto("invalid-email", "short", "", "010-0000");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(body, "userCreateRequestDto");
+        bindingResult.addError(fieldError("email", "invalid-email", "Email", "올바른 이메일 형식이 아닙니다"));
+        bindingResult.addError(fieldError("password", "short", "Size", "비밀번호는 8~50자 사이여야 합니다"));
+        bindingResult.addError(fieldError("phoneNumber", "010-0000", "Pattern", "올바른 전화번호 형식이 아닙니다"));
+
+        MethodParameter parameter = new MethodParameter(
+                UserController.class.getMethod("createUser", UserCreateRequestDto.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    private static FieldError fieldError(String field, Object rejectedValue, String code, String message) {
+        return new FieldError("userCreateRequestDto", field, rejectedValue, false,
+                new String[]{code}, null, message);
+    }
+
+    @Benchmark
+    public byte[] customException() throws IOException {
+        CustomException exception = createAt(stackDepth, UserErrorCode.USER_NOT_FOUND);
+        ResponseEntity<CustomErrorResponse> response = handler.handleCustomException(exception, request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    @Benchmark
+    public byte[] customExceptionWithStackTrace() throws IOException {
+        CustomException exception = createAt(stackDepth, CommonErrorCode.XXX_SERVER_ERROR);
+        ResponseEntity<CustomErrorResponse> response = handler.handleCustomException(exception, request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+
+    private static CustomException createAt(int depth, ErrorCode errorCode) {
+        if (depth > 0) {
+            return createAt(depth - 1, errorCode);
+        }
+        return new CustomException(errorCode, "사용자를 찾을 수 없습니다: 1");
+    }
+
+    @Benchmark
+    public byte[] validationException() throws IOException {
+        ResponseEntity<CustomErrorResponse> response = handler.handleValidationException(validationException, request);
+        return objectMapper.writeValueAsBytes(response.getBody());
+    }
+}
@@ -0,0 +1,86 @@
+package com.template.tspringbootjava.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 설정 (loadtest.properties + System property "loadtest.*" 덮어쓰기)
+ */
+final class LoadTestConfig {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties;
+
+    private LoadTestConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    static LoadTestConfig load() throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+        System.getProperties().forEach((key, value) -> {
+            if (key.toString().startsWith(PREFIX)) {
+                properties.setProperty(key.toString(), value.toString());
+            }
+        });
+        return new LoadTestConfig(properties);
+    }
+
+    int seedUsers() {
+        return Integer.parseInt(get("seed-users", "1000"));
+    }
+
+    int maxInFlight() {
+        return Integer.parseInt(get("max-in-flight", "2000"));
+    }
+
+    /**
+     * 애플리케이션 추가 profile (예: virtual-threads)
+     */
+    String profiles() {
+        return get("profiles", "");
+    }
+
+    List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+        for (String name : get("scenarios", "").split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            String scenario = "scenario." + name.trim() + ".";
+            scenarios.add(new Scenario(
+                    name.trim(),
+                    Scenario.parseMix(require(scenario + "mix")),
+                    Integer.parseInt(get(scenario + "rate", "100")),
+                    DurationStyle.detectAndParse(get(scenario + "duration", "30s")),
+                    DurationStyle.detectAndParse(get(scenario + "warmup", "10s"))
+            ));
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("No scenarios configured (loadtest.scenarios)");
+        }
+        return scenarios;
+    }
+
+    private String get(String key, String defaultValue) {
+        return properties.getProperty(PREFIX + key, defaultValue);
+    }
+
+    private String require(String key) {
+        String value = properties.getProperty(PREFIX + key);
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing property: " + PREFIX + key);
+        }
+        return value;
+    }
+}
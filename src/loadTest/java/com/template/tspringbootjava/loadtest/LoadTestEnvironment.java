@@ -0,0 +1,87 @@
+package com.template.tspringbootjava.loadtest;
+
+import com.template.tspringbootjava.TSpringbootJavaApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 실행 환경
+ * - PostgreSQL: embedded (zonky, 실제 PostgreSQL 바이너리) + schema.sql
+ * - Redis: embedded (embedded-redis, 실제 redis-server 바이너리)
+ * - 애플리케이션: loadtest profile, 임의 포트로 같은 JVM에서 실행
+ */
+@Slf4j
+final class LoadTestEnvironment implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final RedisServer redis;
+    private final ConfigurableApplicationContext context;
+    private final String baseUrl;
+
+    private LoadTestEnvironment(EmbeddedPostgres postgres, RedisServer redis, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.redis = redis;
+        this.context = context;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+    }
+
+    static LoadTestEnvironment start(String profiles) throws IOException, SQLException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+        }
+        log.info("PostgreSQL started: port {}", postgres.getPort());
+
+        int redisPort = freePort();
+        RedisServer redis = new RedisServer(redisPort);
+        redis.start();
+        log.info("Redis started: port {}", redisPort);
+
+        List<String> args = new ArrayList<>();
+        args.add("--spring.profiles.active=loadtest" + (profiles.isBlank() ? "" : "," + profiles));
+        args.add("--server.port=0");
+        args.add("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true");
+        args.add("--spring.datasource.username=postgres");
+        args.add("--spring.datasource.password=");
+        args.add("--spring.data.redis.host=localhost");
+        args.add("--spring.data.redis.port=" + redisPort);
+        args.add("--spring.data.redis.password=");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TSpringbootJavaApplication.class)
+                .run(args.toArray(String[]::new));
+        return new LoadTestEnvironment(postgres, redis, context);
+    }
+
+    String baseUrl() {
+        return baseUrl;
+    }
+
+    ConfigurableApplicationContext context() {
+        return context;
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        redis.stop();
+        postgres.close();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.template.tspringbootjava.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * 부하 테스트 결과 출력 (커밋 간 diff 비교용)
+ * - report.md: 시나리오별 요청 결과/지연 시간(percentile)/캐시 hit 비율/요청당 DB 쿼리 수
+ * - report.json: 같은 내용 (도구 비교용)
+ * - {scenario}-{operation}.hgrm: HdrHistogram percentile 분포 (HistogramLogAnalyzer 등으로 시각화)
+ * - 실행 시각 등 매번 달라지는 값은 제외
+ */
+final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    private final Map<String, Object> environment = new LinkedHashMap<>();
+    private final List<ScenarioResult> results = new ArrayList<>();
+
+    LoadTestReport(LoadTestConfig config, String profiles) {
+        environment.put("commit", gitCommit());
+        environment.put("java", System.getProperty("java.version"));
+        environment.put("profiles", profiles);
+        environment.put("seedUsers", config.seedUsers());
+        environment.put("maxInFlight", config.maxInFlight());
+    }
+
+    void add(ScenarioResult result) {
+        results.add(result);
+    }
+
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("report.md"), markdown(), StandardCharsets.UTF_8);
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(directory.resolve("report.json").toFile(), json());
+
+        for (ScenarioResult result : results) {
+            for (Map.Entry<Operation, OperationStats> entry : result.operations().entrySet()) {
+                Path file = directory.resolve(result.scenario().name() + "-" + entry.getKey().label() + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                    entry.getValue().latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+                }
+            }
+        }
+    }
+
+    String markdown() {
+        StringBuilder md = new StringBuilder("# Load test report\n");
+        environment.forEach((key, value) -> md.append("- ").append(key).append(": ").append(value).append('\n'));
+
+        for (ScenarioResult result : results) {
+            Scenario scenario = result.scenario();
+            md.append("\n## ").append(scenario.name()).append('\n')
+                    .append("- mix: ").append(scenario.mixLabel()).append('\n')
+                    .append("- target rate: ").append(scenario.rate()).append(" req/s, duration: ")
+                    .append(scenario.duration()).append(" (warmup ").append(scenario.warmup()).append(")\n")
+                    .append("- throughput: ").append(format(result.throughput())).append(" req/s, requests: ")
+                    .append(result.totalRequests()).append('\n')
+                    .append("- DB statements/request: ").append(format(result.statementsPerRequest()))
+                    .append(" (total ").append(result.metrics().statements()).append(")\n\n");
+
+            md.append("| operation | count | 2xx | 4xx | 5xx | failed | dropped | p50 ms | p90 ms | p99 ms | p99.9 ms | max ms |\n")
+                    .append("|---|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|---:|\n");
+            result.operations().forEach((operation, stats) -> {
+                md.append("| ").append(operation.label())
+                        .append(" | ").append(stats.count())
+                        .append(" | ").append(stats.success())
+                        .append(" | ").append(stats.clientErrors())
+                        .append(" | ").append(stats.serverErrors())
+                        .append(" | ").append(stats.failures())
+                        .append(" | ").append(stats.dropped());
+                for (double percentile : PERCENTILES) {
+                    md.append(" | ").append(millis(stats.latency(), percentile));
+                }
+                md.append(" | ").append(format(stats.latency().getMaxValue() / NANOS_PER_MILLI)).append(" |\n");
+            });
+
+            md.append("\n| cache | lookups | L1 hit % | hit % (L1+L2) | loads |\n")
+                    .append("|---|---:|---:|---:|---:|\n");
+            result.metrics().caches().forEach((cache, counts) -> md.append("| ").append(cache)
+                    .append(" | ").append(counts.lookups())
+                    .append(" | ").append(format(counts.l1HitRatio() * 100))
+                    .append(" | ").append(format(counts.hitRatio() * 100))
+                    .append(" | ").append(counts.loads())
+                    .append(" |\n"));
+        }
+        return md.toString();
+    }
+
+    private Map<String, Object> json() {
+        Map<String, Object> root = new LinkedHashMap<>(environment);
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+        for (ScenarioResult result : results) {
+            Map<String, Object> scenario = new LinkedHashMap<>();
+            scenario.put("name", result.scenario().name());
+            scenario.put("mix", result.scenario().mixLabel());
+            scenario.put("rate", result.scenario().rate());
+            scenario.put("durationSeconds", result.scenario().duration().toSeconds());
+            scenario.put("throughput", result.throughput());
+            scenario.put("requests", result.totalRequests());
+            scenario.put("statements", result.metrics().statements());
+            scenario.put("statementsPerRequest", result.statementsPerRequest());
+
+            Map<String, Object> operations = new LinkedHashMap<>();
+            result.operations().forEach((operation, stats) -> {
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("count", stats.count());
+                values.put("success", stats.success());
+                values.put("clientErrors", stats.clientErrors());
+                values.put("serverErrors", stats.serverErrors());
+                values.put("failures", stats.failures());
+                values.put("dropped", stats.dropped());
+                for (double percentile : PERCENTILES) {
+                    values.put("p" + format(percentile).replace(".0", "") + "Millis",
+                            stats.latency().getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+                }
+                values.put("maxMillis", stats.latency().getMaxValue() / NANOS_PER_MILLI);
+                operations.put(operation.label(), values);
+            });
+            scenario.put("operations", operations);
+
+            Map<String, Object> caches = new LinkedHashMap<>();
+            result.metrics().caches().forEach((cache, counts) -> {
+                Map<String, Object> values = new LinkedHashMap<>();
+                values.put("lookups", counts.lookups());
+                values.put("l1HitRatio", counts.l1HitRatio());
+                values.put("hitRatio", counts.hitRatio());
+                values.put("loads", counts.loads());
+                caches.put(cache, values);
+            });
+            scenario.put("caches", caches);
+            scenarios.add(scenario);
+        }
+        root.put("scenarios", scenarios);
+        return root;
+    }
+
+    private static String millis(Histogram histogram, double percentile) {
+        return format(histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI);
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String gitCommit() {
+        try (InputStream in = LoadTestReport.class.getResourceAsStream("/git.properties")) {
+            if (in == null) {
+                return "unknown";
+            }
+            Properties properties = new Properties();
+            properties.load(in);
+            return properties.getProperty("git.commit.id.abbrev", "unknown");
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.template.tspringbootjava.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 실행 ($ ./gradlew loadTest)
+ * - 환경 시작 → seed 데이터 생성 → 시나리오 순서대로 실행 → 보고서 출력
+ * - args[0]: 보고서 출력 디렉터리 (기본값: build/reports/loadtest)
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path reportDirectory = Path.of((args.length > 0) ? args[0] : "build/reports/loadtest");
+        LoadTestConfig config = LoadTestConfig.load();
+        LoadTestReport report = new LoadTestReport(config, config.profiles());
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(config.profiles())) {
+            UserIdPool userIds = new UserIdPool();
+            UserApiClient client = new UserApiClient(environment.baseUrl(), userIds);
+            log.info("Seeding {} users", config.seedUsers());
+            client.seed(config.seedUsers());
+
+            OpenModelDriver driver = new OpenModelDriver(client,
+                    new MetricsProbe(environment.context()), config.maxInFlight());
+            for (Scenario scenario : config.scenarios()) {
+                ScenarioResult result = driver.run(scenario);
+                report.add(result);
+                log.info("[{}] {} requests, {} req/s", scenario.name(), result.totalRequests(),
+                        String.format("%.1f", result.throughput()));
+            }
+        }
+
+        report.write(reportDirectory);
+        log.info("Report written: {}", reportDirectory.toAbsolutePath().resolve("report.md"));
+    }
+}
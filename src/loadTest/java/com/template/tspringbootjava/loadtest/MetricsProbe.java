@@ -0,0 +1,58 @@
+package com.template.tspringbootjava.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.context.ApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 실행 중인 애플리케이션에서 지표 수집
+ * - DB 쿼리 수: Hibernate Statistics.getPrepareStatementCount() (spring.jpa.properties.hibernate.generate_statistics)
+ * - 캐시: Micrometer cache.near.gets{cache,tier,result}, cache.singleflight.loads{cache}
+ */
+final class MetricsProbe {
+
+    private static final List<String> CACHES = List.of("users", "userList", "userJson", "userMissing");
+
+    private final Statistics statistics;
+    private final MeterRegistry meterRegistry;
+
+    MetricsProbe(ApplicationContext context) {
+        this.statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        this.meterRegistry = context.getBean(MeterRegistry.class);
+    }
+
+    MetricsSnapshot snapshot() {
+        Map<String, MetricsSnapshot.CacheCounts> caches = new TreeMap<>();
+        for (String cache : CACHES) {
+            caches.put(cache, new MetricsSnapshot.CacheCounts(
+                    nearGets(cache, "l1", "hit"),
+                    nearGets(cache, "l1", "miss"),
+                    nearGets(cache, "l2", "hit"),
+                    nearGets(cache, "l2", "miss"),
+                    count(meterRegistry.find("cache.singleflight.loads").tag("cache", cache).counter())
+            ));
+        }
+        return new MetricsSnapshot(statistics.getPrepareStatementCount(), caches);
+    }
+
+    private long nearGets(String cache, String tier, String result) {
+        return count(meterRegistry.find("cache.near.gets")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter());
+    }
+
+    private static long count(Counter counter) {
+        return (counter != null) ? (long) counter.count() : 0L;
+    }
+}
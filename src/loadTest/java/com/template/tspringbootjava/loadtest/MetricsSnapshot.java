@@ -0,0 +1,64 @@
+package com.template.tspringbootjava.loadtest;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 애플리케이션 내부 지표 (누적값)
+ *
+ * @param statements DB PreparedStatement 수 (Hibernate statistics)
+ * @param caches     캐시별 조회 결과 (cache.near.gets, cache.singleflight.loads)
+ */
+record MetricsSnapshot(
+        long statements,
+        Map<String, CacheCounts> caches
+) {
+    MetricsSnapshot minus(MetricsSnapshot before) {
+        Map<String, CacheCounts> diff = new TreeMap<>();
+        caches.forEach((name, counts) ->
+                diff.put(name, counts.minus(before.caches.getOrDefault(name, CacheCounts.EMPTY))));
+        return new MetricsSnapshot(statements - before.statements, diff);
+    }
+
+    /**
+     * @param l1Hit  L1 hit
+     * @param l1Miss L1 miss (= L2 조회 수)
+     * @param l2Hit  L2(Redis) hit
+     * @param l2Miss L2(Redis) miss
+     * @param loads  실제 실행된 loader 수 (DB 조회)
+     */
+    record CacheCounts(
+            long l1Hit,
+            long l1Miss,
+            long l2Hit,
+            long l2Miss,
+            long loads
+    ) {
+        static final CacheCounts EMPTY = new CacheCounts(0, 0, 0, 0, 0);
+
+        CacheCounts minus(CacheCounts other) {
+            return new CacheCounts(
+                    l1Hit - other.l1Hit,
+                    l1Miss - other.l1Miss,
+                    l2Hit - other.l2Hit,
+                    l2Miss - other.l2Miss,
+                    loads - other.loads
+            );
+        }
+
+        long lookups() {
+            return l1Hit + l1Miss;
+        }
+
+        double l1HitRatio() {
+            return (lookups() > 0) ? (double) l1Hit / lookups() : 0;
+        }
+
+        /**
+         * L1 + L2 hit 비율
+         */
+        double hitRatio() {
+            return (lookups() > 0) ? (double) (l1Hit + l2Hit) / lookups() : 0;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.template.tspringbootjava.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open model 부하 생성
+ * - 응답 시간과 관계없이 rate에 따른 예정 시각마다 요청 시작 (서버가 느려져도 부하가 줄지 않음)
+ * - 요청마다 가상 스레드 1개, 동시 진행 요청 수는 max-in-flight로 제한 (초과 시 dropped)
+ * - latency는 예정 시각부터 응답 완료까지 (coordinated omission 보정)
+ */
+@Slf4j
+final class OpenModelDriver {
+
+    private final UserApiClient client;
+    private final MetricsProbe metricsProbe;
+    private final int maxInFlight;
+
+    OpenModelDriver(UserApiClient client, MetricsProbe metricsProbe, int maxInFlight) {
+        this.client = client;
+        this.metricsProbe = metricsProbe;
+        this.maxInFlight = maxInFlight;
+    }
+
+    ScenarioResult run(Scenario scenario) {
+        if (!scenario.warmup().isZero()) {
+            log.info("[{}] warmup {} ({} req/s)", scenario.name(), scenario.warmup(), scenario.rate());
+            drive(scenario, scenario.warmup());
+        }
+
+        log.info("[{}] measure {} ({} req/s, mix {})", scenario.name(), scenario.duration(), scenario.rate(), scenario.mixLabel());
+        MetricsSnapshot before = metricsProbe.snapshot();
+        long start = System.nanoTime();
+        Map<Operation, OperationStats> operations = drive(scenario, scenario.duration());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        MetricsSnapshot after = metricsProbe.snapshot();
+
+        return new ScenarioResult(scenario, elapsed, operations, after.minus(before));
+    }
+
+    private Map<Operation, OperationStats> drive(Scenario scenario, Duration duration) {
+        Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+        scenario.mix().keySet().forEach(operation -> operations.put(operation, new OperationStats()));
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = 1_000_000_000L / scenario.rate();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long scheduledAt = start + i * intervalNanos;
+                if (scheduledAt >= end) {
+                    break;
+                }
+                waitUntil(scheduledAt);
+
+                Operation operation = scenario.pick(ThreadLocalRandom.current());
+                OperationStats stats = operations.get(operation);
+                if (!inFlight.tryAcquire()) {
+                    stats.recordDropped();
+                    continue;
+                }
+
+                executor.execute(() -> {
+                    try {
+                        int status = client.execute(operation);
+                        stats.record(status, System.nanoTime() - scheduledAt);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        stats.recordFailure(System.nanoTime() - scheduledAt);
+                    } catch (Exception e) {
+                        stats.recordFailure(System.nanoTime() - scheduledAt);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } // close(): 진행 중인 요청 완료 대기
+        return operations;
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.template.tspringbootjava.loadtest;
+
+import java.util.Locale;
+
+/**
+ * 부하 테스트 요청 종류 (UserController)
+ */
+enum Operation {
+    CREATE,  // POST   /api/v1/users
+    GET,     // GET    /api/v1/users/{id}
+    LIST,    // GET    /api/v1/users?page=&size=10
+    UPDATE,  // PUT    /api/v1/users/{id}
+    DELETE;  // DELETE /api/v1/users/{id}
+
+    static Operation parse(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
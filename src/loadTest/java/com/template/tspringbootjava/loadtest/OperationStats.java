@@ -0,0 +1,68 @@
+package com.template.tspringbootjava.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 결과 집계
+ * - latency: 예정된 시작 시각 기준 (coordinated omission 보정, 지연된 요청의 대기 시간 포함)
+ */
+final class OperationStats {
+
+    private final Histogram latency = new ConcurrentHistogram(3);
+    private final LongAdder success = new LongAdder();      // 2xx
+    private final LongAdder clientErrors = new LongAdder(); // 4xx
+    private final LongAdder serverErrors = new LongAdder(); // 5xx
+    private final LongAdder failures = new LongAdder();     // 연결 실패, timeout 등
+    private final LongAdder dropped = new LongAdder();      // max-in-flight 초과로 시작하지 못한 요청
+
+    void record(int status, long latencyNanos) {
+        latency.recordValue(latencyNanos);
+        if (status >= 500) {
+            serverErrors.increment();
+        } else if (status >= 400) {
+            clientErrors.increment();
+        } else {
+            success.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(latencyNanos);
+        failures.increment();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    Histogram latency() {
+        return latency;
+    }
+
+    long count() {
+        return latency.getTotalCount();
+    }
+
+    long success() {
+        return success.sum();
+    }
+
+    long clientErrors() {
+        return clientErrors.sum();
+    }
+
+    long serverErrors() {
+        return serverErrors.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
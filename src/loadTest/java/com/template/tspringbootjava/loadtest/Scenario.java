@@ -0,0 +1,75 @@
+package com.template.tspringbootjava.loadtest;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 부하 테스트 시나리오
+ *
+ * @param name     시나리오 이름
+ * @param mix      요청 종류별 비율 (가중치)
+ * @param rate     초당 요청 시작 수 (open model)
+ * @param duration 측정 시간
+ * @param warmup   측정 전 워밍업 시간
+ */
+record Scenario(
+        String name,
+        Map<Operation, Integer> mix,
+        int rate,
+        Duration duration,
+        Duration warmup
+) {
+    Scenario {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive: " + name);
+        }
+        if (mix.isEmpty() || mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("mix must not be empty: " + name);
+        }
+        mix = Collections.unmodifiableMap(new EnumMap<>(mix));
+    }
+
+    /**
+     * "get:80,list:20" 형식
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            mix.merge(Operation.parse(pair[0]), Integer.parseInt(pair[1].trim()), Integer::sum);
+        }
+        return mix;
+    }
+
+    /**
+     * 비율에 따라 요청 종류 선택
+     */
+    Operation pick(RandomGenerator random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int value = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    String mixLabel() {
+        StringBuilder label = new StringBuilder();
+        mix.forEach((operation, weight) -> {
+            if (!label.isEmpty()) {
+                label.append(',');
+            }
+            label.append(operation.label()).append(':').append(weight);
+        });
+        return label.toString();
+    }
+}
@@ -0,0 +1,33 @@
+package com.template.tspringbootjava.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 시나리오 측정 결과
+ *
+ * @param scenario   시나리오
+ * @param elapsed    실제 측정 시간 (마지막 응답까지)
+ * @param operations 요청 종류별 결과
+ * @param metrics    측정 구간의 DB 쿼리 수, 캐시 조회 결과 (시작/종료 차이)
+ */
+record ScenarioResult(
+        Scenario scenario,
+        Duration elapsed,
+        Map<Operation, OperationStats> operations,
+        MetricsSnapshot metrics
+) {
+    long totalRequests() {
+        return operations.values().stream().mapToLong(OperationStats::count).sum();
+    }
+
+    double throughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return (seconds > 0) ? totalRequests() / seconds : 0;
+    }
+
+    double statementsPerRequest() {
+        long requests = totalRequests();
+        return (requests > 0) ? (double) metrics.statements() / requests : 0;
+    }
+}
@@ -0,0 +1,122 @@
+package com.template.tspringbootjava.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UserController 호출 (java.net.http.HttpClient)
+ * - 생성한 사용자 id는 UserIdPool에 추가, 삭제 대상 id는 요청 전에 제거
+ */
+final class UserApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int LIST_PAGES = 10;
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final UserIdPool userIds;
+    private final String runId;
+    private final AtomicLong sequence = new AtomicLong();
+
+    UserApiClient(String baseUrl, UserIdPool userIds) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl + "/api/v1/users";
+        this.userIds = userIds;
+        this.runId = Long.toString(System.currentTimeMillis() % 1_000_000, 36);
+    }
+
+    /**
+     * 초기 데이터 생성 (POST /batch)
+     */
+    void seed(int count) throws IOException, InterruptedException {
+        for (int from = 0; from < count; from += SEED_BATCH_SIZE) {
+            List<Map<String, String>> users = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SEED_BATCH_SIZE, count); i++) {
+                users.add(newUser());
+            }
+
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(Map.of("users", users)))));
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Seed failed: " + response.statusCode() + " " + response.body());
+            }
+            for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+                if (result.path("success").asBoolean()) {
+                    userIds.add(result.path("id").asLong());
+                }
+            }
+        }
+    }
+
+    /**
+     * 요청 실행
+     *
+     * @return HTTP 상태 코드
+     */
+    int execute(Operation operation) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long id = switch (operation) {
+            case GET, UPDATE -> userIds.random(random);
+            case DELETE -> userIds.take(random);
+            default -> 0L;
+        };
+        // 대상 사용자가 없으면 생성으로 대체
+        if (id < 0) {
+            operation = Operation.CREATE;
+        }
+
+        return switch (operation) {
+            case CREATE -> create();
+            case GET -> send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET()).statusCode();
+            case LIST -> send(HttpRequest.newBuilder(
+                    URI.create(baseUrl + "?page=" + random.nextInt(LIST_PAGES) + "&size=10")).GET()).statusCode();
+            case UPDATE -> send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id))
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(
+                            "{\"name\":\"수정" + sequence.incrementAndGet() % 10_000 + "\"}"))).statusCode();
+            case DELETE -> send(HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).DELETE()).statusCode();
+        };
+    }
+
+    private int create() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(newUser()))));
+        if (response.statusCode() == 201) {
+            userIds.add(objectMapper.readTree(response.body()).path("id").asLong());
+        }
+        return response.statusCode();
+    }
+
+    private Map<String, String> newUser() {
+        long n = sequence.incrementAndGet();
+        return Map.of(
+                "email", "lt-" + runId + "-" + n + "@example.com",
+                "password", "password" + n,
+                "name", "부하" + n,
+                "phoneNumber", String.format("010-%04d-%04d", (n / 10_000) % 10_000, n % 10_000)
+        );
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,67 @@
+package com.template.tspringbootjava.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.random.RandomGenerator;
+
+/**
+ * 조회/수정/삭제 대상 사용자 id 목록
+ * - 생성 성공 시 추가, 삭제 요청 전에 제거 (삭제된 id는 이후 대상에서 제외)
+ */
+final class UserIdPool {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] ids = new long[1024];
+    private int size;
+
+    void add(long id) {
+        lock.lock();
+        try {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 임의의 id (없으면 -1)
+     */
+    long random(RandomGenerator random) {
+        lock.lock();
+        try {
+            return (size == 0) ? -1 : ids[random.nextInt(size)];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 임의의 id를 목록에서 제거하여 반환 (없으면 -1)
+     */
+    long take(RandomGenerator random) {
+        lock.lock();
+        try {
+            if (size == 0) {
+                return -1;
+            }
+            int index = random.nextInt(size);
+            long id = ids[index];
+            ids[index] = ids[--size];
+            return id;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
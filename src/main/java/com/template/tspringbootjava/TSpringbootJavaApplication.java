@@ -2,6 +2,9 @@ package com.template.tspringbootjava;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @EnableJpaAuditing
@@ -9,7 +12,25 @@ import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 public class TSpringbootJavaApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(TSpringbootJavaApplication.class, args);
+        SpringApplication application = new SpringApplication(TSpringbootJavaApplication.class);
+        application.addListeners(new StartupRecordingListener());
+        application.run(args);
+    }
+
+    /**
+     * 시작 단계별 소요 시간 기록 (GET /actuator/startup)
+     * - app.startup.buffer-capacity > 0 인 profile 에서만 BufferingApplicationStartup 사용 (그 외 기록 비용 없음)
+     * - profile 설정은 environment 준비 후에 읽을 수 있으므로 이 시점에 설정, ApplicationContext 생성 이후 단계(bean 생성 등)가 기록됨
+     */
+    private static final class StartupRecordingListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            int capacity = event.getEnvironment().getProperty("app.startup.buffer-capacity", Integer.class, 0);
+            if (capacity > 0) {
+                event.getSpringApplication().setApplicationStartup(new BufferingApplicationStartup(capacity));
+            }
+        }
     }
 
 }
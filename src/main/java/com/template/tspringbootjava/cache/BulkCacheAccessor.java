@@ -0,0 +1,234 @@
+package com.template.tspringbootjava.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 key 일괄 조회/저장 (단건 @Cacheable 호출의 fan-out 대체)
+ * - 조회: L1(TwoLevelCache) -> L2(Redis MGET 1회)
+ * - 저장: Redis pipeline (SET NX + TTL), 저장에 성공한 값만 L1에도 저장
+ *   - 덮어쓰기(putAll): Redis pipeline (SET + TTL) + L1 삭제, 다른 노드의 L1 무효화 발행
+ * - key prefix, 값 직렬화, TTL은 RedisCacheManager의 캐시 설정을 그대로 사용 (단건 경로와 같은 엔트리 공유)
+ * - refresh-ahead 캐시는 RefreshableValue로 감싸서 저장, 조회 시 풀어서 반환
+ * - Redis 오류 시 전체 miss로 처리 (DB 조회로 대체)
+ */
+@Slf4j
+public class BulkCacheAccessor {
+
+    private final RedisCacheManager redisCacheManager;
+    private final TwoLevelCacheManager twoLevelCacheManager; // null: L1 미사용
+    private final RedisConnectionFactory redisConnectionFactory;
+    private final RefreshAheadProperties refreshAheadProperties;
+
+    public BulkCacheAccessor(RedisCacheManager redisCacheManager,
+                             TwoLevelCacheManager twoLevelCacheManager,
+                             RedisConnectionFactory redisConnectionFactory,
+                             RefreshAheadProperties refreshAheadProperties) {
+        this.redisCacheManager = redisCacheManager;
+        this.twoLevelCacheManager = twoLevelCacheManager;
+        this.redisConnectionFactory = redisConnectionFactory;
+        this.refreshAheadProperties = refreshAheadProperties;
+    }
+
+    /**
+     * 일괄 조회
+     * - 반환: 캐시에 있는 key만 포함 (type이 다른 값은 miss로 처리)
+     */
+    public <K, V> Map<K, V> getAll(String cacheName, Collection<K> keys, Class<V> type) {
+        Map<K, V> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+
+        // 1. L1
+        TwoLevelCache nearCache = nearCache(cacheName);
+        List<K> remoteKeys = new ArrayList<>();
+        for (K key : keys) {
+            Object value = (nearCache != null) ? nearCache.getLocal(toLocalKey(key)) : null;
+            if (value == null || !putTyped(found, key, value, type)) {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return found;
+        }
+
+        // 2. L2 (MGET)
+        RedisCacheConfiguration config = configFor(cacheName);
+        byte[][] rawKeys = remoteKeys.stream()
+                .map(key -> rawKey(cacheName, config, key))
+                .toArray(byte[][]::new);
+
+        List<byte[]> rawValues;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            rawValues = connection.stringCommands().mGet(rawKeys);
+        } catch (RuntimeException e) {
+            log.warn("BulkCacheAccessor - mget failed: {}, {}", cacheName, e.getMessage());
+            return found;
+        }
+
+        int hits = 0;
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            byte[] rawValue = (rawValues != null) ? rawValues.get(i) : null;
+            if (rawValue == null) {
+                continue;
+            }
+
+            K key = remoteKeys.get(i);
+            Object value = config.getValueSerializationPair().read(ByteBuffer.wrap(rawValue));
+            if (value != null && putTyped(found, key, value, type)) {
+                hits++;
+                if (nearCache != null) {
+                    nearCache.putLocal(toLocalKey(key), value);
+                }
+            }
+        }
+
+        if (nearCache != null) {
+            nearCache.recordRemote(hits, remoteKeys.size() - hits);
+        }
+        return found;
+    }
+
+    /**
+     * 일괄 저장 (key가 없을 때만 저장)
+     * - 로딩 중 @CachePut 으로 갱신된 값을 덮어쓰지 않음
+     *
+     * @param loadMillis 값 로딩 시간 (refresh-ahead XFetch delta)
+     */
+    public <K> void putAllIfAbsent(String cacheName, Map<K, ?> values, long loadMillis) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        RedisCacheConfiguration config = configFor(cacheName);
+        RefreshAheadProperties.CacheSpec refreshSpec = refreshAheadProperties.specFor(cacheName);
+        long now = System.currentTimeMillis();
+
+        List<K> keys = new ArrayList<>(values.size());
+        List<Object> stored = new ArrayList<>(values.size());
+        List<Object> results;
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                for (Map.Entry<K, ?> entry : values.entrySet()) {
+                    Object value = (refreshSpec != null)
+                            ? new RefreshableValue(entry.getValue(), now + refreshSpec.ttl().toMillis(), loadMillis)
+                            : entry.getValue();
+
+                    byte[] rawValue = ByteUtils.getBytes(config.getValueSerializationPair().write(value));
+                    connection.stringCommands().set(rawKey(cacheName, config, entry.getKey()), rawValue,
+                            expiration(config, entry.getKey(), value), SetOption.SET_IF_ABSENT);
+
+                    keys.add(entry.getKey());
+                    stored.add(value);
+                }
+            } finally {
+                results = connection.closePipeline();
+            }
+        } catch (RuntimeException e) {
+            log.warn("BulkCacheAccessor - pipeline put failed: {}, {}", cacheName, e.getMessage());
+            return;
+        }
+
+        TwoLevelCache nearCache = nearCache(cacheName);
+        if (nearCache == null) {
+            return;
+        }
+        for (int i = 0; i < keys.size() && i < results.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                nearCache.putLocal(toLocalKey(keys.get(i)), stored.get(i));
+            }
+        }
+    }
+
+    /**
+     * 일괄 저장 (이미 있는 값도 덮어씀)
+     * - refresh-ahead 캐시에는 사용하지 않음 (RefreshableValue 로 감싸지 않음)
+     */
+    public <K> void putAll(String cacheName, Map<K, ?> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        RedisCacheConfiguration config = configFor(cacheName);
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                for (Map.Entry<K, ?> entry : values.entrySet()) {
+                    byte[] rawValue = ByteUtils.getBytes(config.getValueSerializationPair().write(entry.getValue()));
+                    connection.stringCommands().set(rawKey(cacheName, config, entry.getKey()), rawValue,
+                            expiration(config, entry.getKey(), entry.getValue()), SetOption.UPSERT);
+                }
+            } finally {
+                connection.closePipeline();
+            }
+        } catch (RuntimeException e) {
+            // 실패 시 이전 값은 TTL 만료까지 유지됨
+            log.warn("BulkCacheAccessor - pipeline put failed: {}, {}", cacheName, e.getMessage());
+        }
+
+        TwoLevelCache nearCache = nearCache(cacheName);
+        if (nearCache != null) {
+            for (K key : values.keySet()) {
+                nearCache.evictLocalAndPublish(toLocalKey(key));
+            }
+        }
+    }
+
+    private TwoLevelCache nearCache(String cacheName) {
+        return (twoLevelCacheManager != null) ? twoLevelCacheManager.getNearCache(cacheName) : null;
+    }
+
+    private RedisCacheConfiguration configFor(String cacheName) {
+        if (!(redisCacheManager.getCache(cacheName) instanceof RedisCache redisCache)) {
+            throw new IllegalArgumentException("Redis cache not found: " + cacheName);
+        }
+        return redisCache.getCacheConfiguration();
+    }
+
+    /**
+     * RedisCache와 같은 key 생성 ("{prefix}{key}")
+     */
+    private static byte[] rawKey(String cacheName, RedisCacheConfiguration config, Object key) {
+        String cacheKey = config.usePrefix()
+                ? config.getKeyPrefixFor(cacheName) + key
+                : String.valueOf(key);
+        return ByteUtils.getBytes(config.getKeySerializationPair().write(cacheKey));
+    }
+
+    private static Expiration expiration(RedisCacheConfiguration config, Object key, Object value) {
+        Duration ttl = config.getTtlFunction().getTimeToLive(key, value);
+        return (ttl != null && !ttl.isZero() && !ttl.isNegative())
+                ? Expiration.from(ttl)
+                : Expiration.persistent();
+    }
+
+    private static <K, V> boolean putTyped(Map<K, V> found, K key, Object value, Class<V> type) {
+        Object unwrapped = (value instanceof RefreshableValue refreshable) ? refreshable.value() : value;
+        if (!type.isInstance(unwrapped)) {
+            return false;
+        }
+        found.put(key, type.cast(unwrapped));
+        return true;
+    }
+
+    private static String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,188 @@
+package com.template.tspringbootjava.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 세대(generation) 카운터 (Redis + 로컬 사본)
+ * - 캐시 key에 세대 번호를 포함하여, 무효화 시 allEntries 삭제(SCAN + DEL) 대신 INCR 한 번으로 처리
+ * - 이전 세대의 엔트리는 조회되지 않고 TTL에 의해 자연 만료
+ * - 조회(current)는 로컬 사본 사용 (요청마다 Redis GET 없음)
+ *   - 증가(bump) 시 로컬 반영 후 CacheInvalidationBus로 다른 노드에 전파
+ *   - pub/sub 메시지 유실 대비: RESYNC_INTERVAL 마다 Redis 값으로 다시 맞춤
+ *   - 로컬 값은 증가만 함 (재동기화 조회와 겹친 증가가 이전 값으로 덮어써지지 않음)
+ * - Redis key 삭제/초기화(로컬 값보다 작음) 감지 시 로컬 값으로 복구
+ *   - 복구하지 않으면 이후 INCR 이 로컬 값 이하를 반환하여 무효화가 반영되지 않음
+ */
+@Slf4j
+@Component
+public class CacheGeneration implements CacheInvalidationListener {
+
+    // 캐시 prefix("{cacheName}::")와 분리하여 cache.clear() 시 함께 삭제되지 않도록 함
+    // CacheInvalidationBus 메시지의 캐시 이름으로도 사용 (key: 세대 번호)
+    private static final String KEY_PREFIX = "cache:generation:";
+    private static final long RESYNC_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    // 세대 번호를 ARGV[1] 이상으로 올림 (key 가 없거나 작을 때만), 결과 세대 반환
+    private static final RedisScript<Long> RAISE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('get', KEYS[1]) or '0') "
+                    + "local floor = tonumber(ARGV[1]) "
+                    + "if current < floor then redis.call('set', KEYS[1], ARGV[1]) return floor end "
+                    + "return current",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheInvalidationBus invalidationBus; // null: 노드 간 전파 미사용 (재동기화만 사용)
+    private final ConcurrentMap<String, LocalGeneration> generations = new ConcurrentHashMap<>();
+
+    public CacheGeneration(StringRedisTemplate stringRedisTemplate,
+                           ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.invalidationBus = cacheInvalidationBus.getIfAvailable();
+        if (invalidationBus != null) {
+            invalidationBus.addListener(this);
+        }
+    }
+
+    /**
+     * 현재 세대 번호 (없으면 0)
+     * - 처음 조회 또는 재동기화 시점에만 Redis 조회
+     */
+    public long current(String cacheName) {
+        LocalGeneration local = generations.computeIfAbsent(cacheName, name -> new LocalGeneration());
+        long now = System.nanoTime();
+        if (!local.initialized) {
+            sync(cacheName, local, now);
+        } else {
+            long syncedAt = local.syncedAt.get();
+            // 재동기화는 한 요청만 수행 (나머지는 로컬 값 사용)
+            if (now - syncedAt >= RESYNC_INTERVAL_NANOS && local.syncedAt.compareAndSet(syncedAt, now)) {
+                sync(cacheName, local, now);
+            }
+        }
+        return local.value.get();
+    }
+
+    private void sync(String cacheName, LocalGeneration local, long now) {
+        try {
+            String generation = stringRedisTemplate.opsForValue().get(KEY_PREFIX + cacheName);
+            long localValue = local.value.get();
+            if (generation == null && localValue == 0) {
+                // 아직 증가된 적 없음
+                local.syncedAt.set(now);
+                local.initialized = true;
+                return;
+            }
+
+            long redisValue = (generation != null) ? Long.parseLong(generation) : -1L;
+            if (redisValue < localValue) {
+                // 조회 직후 증가(bump, 다른 노드 메시지)가 로컬에 먼저 반영된 경우 포함 (script 는 올리기만 함)
+                if (generation == null) {
+                    log.warn("CacheGeneration - key missing, restoring: {} -> {}", cacheName, localValue);
+                }
+                redisValue = raise(cacheName, localValue);
+            }
+            local.advanceTo(redisValue);
+            local.syncedAt.set(now);
+            local.initialized = true;
+        } catch (Exception e) {
+            // 실패 시 로컬 값 유지 (초기화 전이면 다음 조회에서 다시 시도)
+            log.warn("CacheGeneration - sync failed: {}, {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * 주기와 관계없이 재동기화
+     */
+    void resync(String cacheName) {
+        sync(cacheName, generations.computeIfAbsent(cacheName, name -> new LocalGeneration()), System.nanoTime());
+    }
+
+    private long raise(String cacheName, long floor) {
+        Long generation = stringRedisTemplate.execute(RAISE_SCRIPT, List.of(KEY_PREFIX + cacheName), String.valueOf(floor));
+        return (generation != null) ? generation : floor;
+    }
+
+    /**
+     * 세대 번호 증가 (트랜잭션 진행 중이면 커밋 이후에 증가)
+     * - 커밋 전에 증가시키면, 커밋 전 데이터가 새 세대 key로 캐싱될 수 있음
+     */
+    public void bumpAfterCommit(String cacheName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(cacheName);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump(cacheName);
+            }
+        });
+    }
+
+    public void bump(String cacheName) {
+        try {
+            Long generation = stringRedisTemplate.opsForValue().increment(KEY_PREFIX + cacheName);
+            if (generation == null) {
+                return;
+            }
+            LocalGeneration local = generations.computeIfAbsent(cacheName, name -> new LocalGeneration());
+            long localValue = local.value.get();
+            if (generation <= localValue) {
+                // key 삭제/초기화 후 INCR: 로컬 값보다 큰 세대로 복구
+                log.warn("CacheGeneration - key reset, restoring: {} {} -> {}", cacheName, generation, localValue + 1);
+                generation = raise(cacheName, localValue + 1);
+            }
+            local.advanceTo(generation);
+            if (invalidationBus != null) {
+                invalidationBus.publish(KEY_PREFIX + cacheName, String.valueOf(generation));
+            }
+            log.debug("CacheGeneration - bump: {} -> {}", cacheName, generation);
+        } catch (Exception e) {
+            // 실패 시 이전 세대 엔트리는 TTL 만료까지 유지됨
+            log.warn("CacheGeneration - bump failed: {}, {}", cacheName, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 세대 증가 수신
+     */
+    @Override
+    public void onInvalidation(String cacheName, String key) {
+        if (key == null || !cacheName.startsWith(KEY_PREFIX)) {
+            return;
+        }
+        LocalGeneration local = generations.get(cacheName.substring(KEY_PREFIX.length()));
+        if (local != null) {
+            try {
+                local.advanceTo(Long.parseLong(key));
+            } catch (NumberFormatException e) {
+                log.warn("CacheGeneration - invalid generation: {}={}", cacheName, key);
+            }
+        }
+    }
+
+    private static final class LocalGeneration {
+        private final AtomicLong value = new AtomicLong();
+        private final AtomicLong syncedAt = new AtomicLong();
+        private volatile boolean initialized;
+
+        private void advanceTo(long generation) {
+            value.accumulateAndGet(generation, Math::max);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.template.tspringbootjava.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * L1(near cache) 무효화 버스 (Redis pub/sub)
+ * - publish(): 로컬에서 발생한 put/evict/clear를 큐에 적재
+ * - flusher 스레드가 linger 동안 모인 요청을 하나의 메시지로 묶어서 발행
+ * - 수신 시 자기 자신이 발행한 메시지는 무시하고, 등록된 listener에 전달
+ * - 큐가 가득 찬 경우 key 단위 무효화를 버리고 해당 캐시 전체 무효화로 대체
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener, SmartLifecycle {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationProperties properties;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ChannelTopic topic;
+    private final BlockingQueue<CacheInvalidationMessage.Entry> queue;
+    private final Set<String> overflowedCaches = ConcurrentHashMap.newKeySet();
+    private final List<CacheInvalidationListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter applied;
+    private final Counter droppedQueueFull;
+    private final Counter droppedPublishError;
+    private final Counter droppedDecodeError;
+    private final Timer lag;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                ObjectMapper objectMapper,
+                                CacheInvalidationProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.topic = ChannelTopic.of(properties.channel());
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+
+        this.published = Counter.builder("cache.invalidation.published")
+                .description("발행한 무효화 메시지(batch) 수")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("수신한 무효화 메시지(batch) 수")
+                .register(meterRegistry);
+        this.applied = Counter.builder("cache.invalidation.applied")
+                .description("L1에 반영한 무효화 entry 수")
+                .register(meterRegistry);
+        this.droppedQueueFull = dropped(meterRegistry, "queue_full");
+        this.droppedPublishError = dropped(meterRegistry, "publish_error");
+        this.droppedDecodeError = dropped(meterRegistry, "decode_error");
+        this.lag = Timer.builder("cache.invalidation.lag")
+                .description("발행 시각부터 수신 노드 반영까지 걸린 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("cache.invalidation.queue.size", queue, BlockingQueue::size)
+                .description("발행 대기 중인 무효화 entry 수")
+                .register(meterRegistry);
+    }
+
+    private Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("cache.invalidation.dropped")
+                .tag("reason", reason)
+                .description("유실된 무효화 entry 수")
+                .register(meterRegistry);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void addListener(CacheInvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * key 단위 무효화 발행 요청
+     */
+    public void publish(String cacheName, String key) {
+        enqueue(CacheInvalidationMessage.Entry.key(cacheName, key));
+    }
+
+    /**
+     * 캐시 전체 무효화 발행 요청
+     */
+    public void publishClear(String cacheName) {
+        enqueue(CacheInvalidationMessage.Entry.all(cacheName));
+    }
+
+    private void enqueue(CacheInvalidationMessage.Entry entry) {
+        if (!queue.offer(entry)) {
+            // 큐가 가득 찬 경우: 다음 batch에서 캐시 전체 무효화로 대체
+            droppedQueueFull.increment();
+            overflowedCaches.add(entry.cache());
+        }
+    }
+
+    /* ----- 발행 (flusher) ----- */
+
+    private void runFlusher() {
+        while (running || !queue.isEmpty()) {
+            try {
+                CacheInvalidationMessage.Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (!overflowedCaches.isEmpty()) {
+                        send(new ArrayList<>());
+                    }
+                    continue;
+                }
+
+                List<CacheInvalidationMessage.Entry> batch = new ArrayList<>();
+                batch.add(first);
+
+                // linger 동안 추가 요청을 모아서 하나의 메시지로 발행
+                long deadline = System.nanoTime() + properties.linger().toNanos();
+                while (batch.size() < properties.maxBatchSize()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, properties.maxBatchSize() - batch.size());
+                        break;
+                    }
+                    CacheInvalidationMessage.Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("CacheInvalidationBus - flush failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void send(List<CacheInvalidationMessage.Entry> batch) {
+        List<CacheInvalidationMessage.Entry> entries = coalesce(batch);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        try {
+            CacheInvalidationMessage message =
+                    new CacheInvalidationMessage(nodeId, System.currentTimeMillis(), entries);
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(message));
+            published.increment();
+        } catch (Exception e) {
+            droppedPublishError.increment(entries.size());
+            log.warn("CacheInvalidationBus - publish failed: {} entries, {}", entries.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * batch 내 중복 제거
+     * - 캐시 전체 무효화가 포함된 경우, 같은 캐시의 key 단위 무효화는 생략
+     */
+    private List<CacheInvalidationMessage.Entry> coalesce(List<CacheInvalidationMessage.Entry> batch) {
+        Set<String> clearedCaches = new LinkedHashSet<>();
+        for (String cacheName : overflowedCaches) {
+            overflowedCaches.remove(cacheName);
+            clearedCaches.add(cacheName);
+        }
+        batch.stream()
+                .filter(CacheInvalidationMessage.Entry::isAll)
+                .forEach(entry -> clearedCaches.add(entry.cache()));
+
+        Set<CacheInvalidationMessage.Entry> entries = new LinkedHashSet<>();
+        clearedCaches.forEach(cacheName -> entries.add(CacheInvalidationMessage.Entry.all(cacheName)));
+        batch.stream()
+                .filter(entry -> !clearedCaches.contains(entry.cache()))
+                .forEach(entries::add);
+
+        return new ArrayList<>(entries);
+    }
+
+    /* ----- 수신 ----- */
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+        } catch (Exception e) {
+            droppedDecodeError.increment();
+            log.warn("CacheInvalidationBus - decode failed: {}", e.getMessage());
+            return;
+        }
+
+        // 자기 자신이 발행한 메시지는 이미 로컬에 반영됨
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        received.increment();
+
+        for (CacheInvalidationMessage.Entry entry : invalidation.entries()) {
+            listeners.forEach(listener -> listener.onInvalidation(entry.cache(), entry.key()));
+            applied.increment();
+        }
+        lag.record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - invalidation.sentAt())));
+    }
+
+    /* ----- Lifecycle ----- */
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerContainer.addMessageListener(this, topic);
+        flusher = Thread.ofPlatform()
+                .name("cache-invalidation-flusher")
+                .daemon(true)
+                .start(this::runFlusher);
+        log.info("CacheInvalidationBus - started: node={}, channel={}", nodeId, topic.getTopic());
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        listenerContainer.removeMessageListener(this, topic);
+        try {
+            // 남은 무효화 요청 발행 대기
+            flusher.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
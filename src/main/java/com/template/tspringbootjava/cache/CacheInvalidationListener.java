@@ -0,0 +1,14 @@
+package com.template.tspringbootjava.cache;
+
+/**
+ * 다른 노드에서 발행된 L1 무효화 수신
+ */
+@FunctionalInterface
+public interface CacheInvalidationListener {
+
+    /**
+     * @param cacheName 캐시 이름
+     * @param key       캐시 key (null: 캐시 전체 무효화)
+     */
+    void onInvalidation(String cacheName, String key);
+}
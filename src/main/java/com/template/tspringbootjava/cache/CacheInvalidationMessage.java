@@ -0,0 +1,39 @@
+package com.template.tspringbootjava.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.util.List;
+
+/**
+ * 노드 간 L1 무효화 메시지
+ *
+ * @param origin  발행 노드 ID (자기 자신이 발행한 메시지는 무시)
+ * @param sentAt  발행 시각 (epoch millis, 전파 지연 측정용)
+ * @param entries 무효화 대상 목록
+ */
+public record CacheInvalidationMessage(
+        String origin,
+        long sentAt,
+        List<Entry> entries
+) {
+
+    /**
+     * @param cache 캐시 이름
+     * @param key   캐시 key (null: 캐시 전체 무효화)
+     */
+    public record Entry(String cache, String key) {
+
+        public static Entry key(String cache, String key) {
+            return new Entry(cache, key);
+        }
+
+        public static Entry all(String cache) {
+            return new Entry(cache, null);
+        }
+
+        @JsonIgnore // key 로부터 계산되는 값, 메시지 필드가 아니므로 직렬화하지 않음
+        public boolean isAll() {
+            return key == null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * L1(near cache) 노드 간 무효화 설정 (Redis pub/sub)
+ * - linger 동안 모인 무효화 요청을 하나의 메시지로 묶어서 발행
+ * - queue-capacity 초과 시 해당 캐시 전체 무효화로 대체 (유실 방지)
+ */
+@ConfigurationProperties(prefix = "app.cache.invalidation")
+public record CacheInvalidationProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue("cache:invalidation")
+        String channel,
+        @DefaultValue("10000")
+        int queueCapacity,
+        @DefaultValue("256")
+        int maxBatchSize,
+        @DefaultValue("2ms")
+        Duration linger
+) {
+}
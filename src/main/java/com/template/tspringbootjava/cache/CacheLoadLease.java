@@ -0,0 +1,45 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 캐시 로딩 lease (Redis SET NX PX)
+ * - 여러 노드에서 같은 key를 동시에 로딩하지 않도록 lease를 획득한 노드만 loader 실행
+ * - 해제 시 자신이 획득한 lease인 경우에만 삭제 (만료 후 다른 노드가 획득한 lease 보호)
+ */
+public class CacheLoadLease {
+
+    private static final String KEY_PREFIX = "cache:lease:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+
+    public CacheLoadLease(StringRedisTemplate stringRedisTemplate, Duration ttl) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+    }
+
+    public String leaseKey(String cacheName, Object key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+
+    public boolean tryAcquire(String leaseKey) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, owner, ttl));
+    }
+
+    public void release(String leaseKey) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), owner);
+    }
+}
@@ -0,0 +1,27 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * "users", "userList" 캐시 값 저장 형식
+ * - 이 버전은 형식과 관계없이 모두 읽음, 이전 버전은 binary 값을 읽지 못함
+ * - binary 전환은 2단계: json 으로 전체 배포 -> 이후 배포에서 binary 로 변경
+ */
+@ConfigurationProperties(prefix = "app.cache")
+public record CacheValueFormatProperties(
+        @DefaultValue("json")
+        ValueFormat valueFormat
+) {
+
+    public enum ValueFormat {
+        /** JSON (Jackson) */
+        JSON,
+        /** compact binary (CompactBinaryRedisSerializer, JSON 은 이전 엔트리 읽기용 fallback) */
+        BINARY
+    }
+
+    public boolean binary() {
+        return valueFormat == ValueFormat.BINARY;
+    }
+}
@@ -0,0 +1,256 @@
+package com.template.tspringbootjava.cache;
+
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 캐시 값용 compact binary Redis Serializer (UserResponseDto, PageResponseDto<UserResponseDto>)
+ * - 형식: [0xB1][format version][type][payload]
+ *   - long: zigzag varint, enum: ordinal varint, Instant: epoch millis varint, String: 길이(varint) + UTF-8
+ *   - null 필드는 앞쪽 bitmask로 표시
+ * - 지원하지 않는 타입은 fallback Serializer(JSON)로 저장
+ * - 읽기: header가 없으면 fallback Serializer로 읽음 (이전 JSON 엔트리 호환)
+ * - UserResponseDto 필드 / UserStatus 순서 변경 시 FORMAT_VERSION 증가 필요
+ *   (다른 버전의 엔트리는 캐시 miss로 처리)
+ */
+public class CompactBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xB1;
+    private static final byte FORMAT_VERSION = 2; // 2: UserResponseDto.version 추가
+
+    private static final byte TYPE_USER = 1;
+    private static final byte TYPE_USER_PAGE = 2;
+
+    private static final UserStatus[] USER_STATUSES = UserStatus.values();
+
+    private final RedisSerializer<Object> fallback;
+
+    @SuppressWarnings("unchecked")
+    public CompactBinaryRedisSerializer(RedisSerializer<?> fallback) {
+        this.fallback = (RedisSerializer<Object>) fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof UserResponseDto user) {
+            Output out = header(TYPE_USER, 64);
+            writeUser(out, user);
+            return out.toByteArray();
+        }
+
+        if (value instanceof PageResponseDto<?> page && isUserPage(page)) {
+            Output out = header(TYPE_USER_PAGE, 16 + page.content().size() * 64);
+            writeUserPage(out, page);
+            return out.toByteArray();
+        }
+
+        return fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != FORMAT_VERSION) {
+            // 다른 버전의 엔트리: 캐시 miss로 처리
+            return null;
+        }
+
+        Input in = new Input(bytes, 3);
+        try {
+            return switch (bytes[2]) {
+                case TYPE_USER -> readUser(in);
+                case TYPE_USER_PAGE -> readUserPage(in);
+                default -> throw new SerializationException("Unknown compact binary type: " + bytes[2]);
+            };
+        } catch (IndexOutOfBoundsException e) {
+            throw new SerializationException("Truncated compact binary value", e);
+        }
+    }
+
+    private static boolean isUserPage(PageResponseDto<?> page) {
+        for (Object element : page.content()) {
+            if (!(element instanceof UserResponseDto)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Output header(byte type, int expectedSize) {
+        Output out = new Output(expectedSize);
+        out.writeByte(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeByte(type);
+        return out;
+    }
+
+    /* ----- UserResponseDto ----- */
+
+    private static void writeUser(Output out, UserResponseDto user) {
+        int nulls = 0;
+        if (user.id() == null) nulls |= 1;
+        if (user.email() == null) nulls |= 1 << 1;
+        if (user.name() == null) nulls |= 1 << 2;
+        if (user.phoneNumber() == null) nulls |= 1 << 3;
+        if (user.status() == null) nulls |= 1 << 4;
+        if (user.createdAt() == null) nulls |= 1 << 5;
+        if (user.updatedAt() == null) nulls |= 1 << 6;
+        if (user.version() == null) nulls |= 1 << 7;
+        out.writeByte((byte) nulls);
+
+        if (user.id() != null) out.writeVarLong(user.id());
+        if (user.email() != null) out.writeString(user.email());
+        if (user.name() != null) out.writeString(user.name());
+        if (user.phoneNumber() != null) out.writeString(user.phoneNumber());
+        if (user.status() != null) out.writeVarInt(user.status().ordinal());
+        if (user.createdAt() != null) out.writeVarLong(user.createdAt().toEpochMilli());
+        if (user.updatedAt() != null) out.writeVarLong(user.updatedAt().toEpochMilli());
+        if (user.version() != null) out.writeVarLong(user.version());
+    }
+
+    private static UserResponseDto readUser(Input in) {
+        int nulls = in.readByte();
+        return new UserResponseDto(
+                (nulls & 1) == 0 ? in.readVarLong() : null,
+                (nulls & 1 << 1) == 0 ? in.readString() : null,
+                (nulls & 1 << 2) == 0 ? in.readString() : null,
+                (nulls & 1 << 3) == 0 ? in.readString() : null,
+                (nulls & 1 << 4) == 0 ? USER_STATUSES[in.readVarInt()] : null,
+                (nulls & 1 << 5) == 0 ? Instant.ofEpochMilli(in.readVarLong()) : null,
+                (nulls & 1 << 6) == 0 ? Instant.ofEpochMilli(in.readVarLong()) : null,
+                (nulls & 1 << 7) == 0 ? in.readVarLong() : null
+        );
+    }
+
+    /* ----- PageResponseDto<UserResponseDto> ----- */
+
+    private static void writeUserPage(Output out, PageResponseDto<?> page) {
+        out.writeVarInt(page.content().size());
+        for (Object user : page.content()) {
+            writeUser(out, (UserResponseDto) user);
+        }
+        out.writeVarInt(page.page());
+        out.writeVarInt(page.size());
+        out.writeVarLong(page.totalElements());
+        out.writeVarInt(page.totalPages());
+        out.writeByte((byte) ((page.hasNext() ? 1 : 0) | (page.hasPrev() ? 2 : 0)));
+    }
+
+    private static PageResponseDto<UserResponseDto> readUserPage(Input in) {
+        int count = in.readVarInt();
+        List<UserResponseDto> content = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            content.add(readUser(in));
+        }
+        int page = in.readVarInt();
+        int size = in.readVarInt();
+        long totalElements = in.readVarLong();
+        int totalPages = in.readVarInt();
+        int flags = in.readByte();
+        return new PageResponseDto<>(content, page, size, totalElements, totalPages,
+                (flags & 1) != 0, (flags & 2) != 0);
+    }
+
+    /* ----- varint 입출력 ----- */
+
+    private static final class Output {
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value);
+        }
+
+        // zigzag + varint (음수도 짧게)
+        void writeVarLong(long value) {
+            long zigzag = (value << 1) ^ (value >> 63);
+            ensureCapacity(10);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class Input {
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        int readVarInt() {
+            return (int) readVarLong();
+        }
+
+        long readVarLong() {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (shift > 63) {
+                    throw new SerializationException("Malformed varint");
+                }
+                b = buffer[position++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+
+        String readString() {
+            int length = readVarInt();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.template.tspringbootjava.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 압축 Redis Serializer (LZ4)
+ * - threshold 이상 크기의 값만 압축
+ * - 형식: [0xC1][원본 길이 4 bytes][LZ4 block]
+ * - 압축하지 않은 값은 inner Serializer 결과 그대로 저장 (header 없음)
+ * - 읽기: header가 없으면 압축되지 않은 값(이전 엔트리 포함)으로 보고 inner Serializer로 읽음
+ */
+public class CompressingRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte LZ4_MAGIC = (byte) 0xC1;
+    private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final RedisSerializer<Object> inner;
+    private final int threshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4.fastDecompressor();
+
+    private final DistributionSummary ratio;
+    private final Timer compressTime;
+    private final Timer decompressTime;
+
+    @SuppressWarnings("unchecked")
+    public CompressingRedisSerializer(RedisSerializer<?> inner, String cacheName, int threshold,
+                                      MeterRegistry meterRegistry) {
+        this.inner = (RedisSerializer<Object>) inner;
+        this.threshold = threshold;
+
+        this.ratio = DistributionSummary.builder("cache.compression.ratio")
+                .tag("cache", cacheName)
+                .description("압축률 (원본 크기 / 압축 크기)")
+                .register(meterRegistry);
+        this.compressTime = Timer.builder("cache.compression.time")
+                .tag("cache", cacheName)
+                .tag("operation", "compress")
+                .description("압축/해제 CPU 시간")
+                .register(meterRegistry);
+        this.decompressTime = Timer.builder("cache.compression.time")
+                .tag("cache", cacheName)
+                .tag("operation", "decompress")
+                .description("압축/해제 CPU 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] raw = inner.serialize(value);
+        if (raw == null || raw.length < threshold) {
+            return raw;
+        }
+
+        long start = System.nanoTime();
+        int maxLength = compressor.maxCompressedLength(raw.length);
+        byte[] compressed = new byte[HEADER_SIZE + maxLength];
+        int length = compressor.compress(raw, 0, raw.length, compressed, HEADER_SIZE, maxLength);
+        compressTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        // 압축 이득이 없으면 원본 저장
+        if (HEADER_SIZE + length >= raw.length) {
+            return raw;
+        }
+
+        ratio.record((double) raw.length / (HEADER_SIZE + length));
+        ByteBuffer.wrap(compressed, 0, HEADER_SIZE)
+                .put(LZ4_MAGIC)
+                .putInt(raw.length);
+        return Arrays.copyOf(compressed, HEADER_SIZE + length);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE || bytes[0] != LZ4_MAGIC) {
+            return inner.deserialize(bytes);
+        }
+
+        long start = System.nanoTime();
+        byte[] raw;
+        try {
+            int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+            raw = decompressor.decompress(bytes, HEADER_SIZE, originalLength);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Cannot decompress cached value", e);
+        }
+        decompressTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        return inner.deserialize(raw);
+    }
+}
@@ -0,0 +1,18 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 캐시 값 압축 설정 (LZ4)
+ * - threshold 이상 크기의 값만 압축 (작은 값은 압축 이득보다 CPU 비용이 큼)
+ */
+@ConfigurationProperties(prefix = "app.cache.compression")
+public record CompressionProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue("2KB")
+        DataSize threshold
+) {
+}
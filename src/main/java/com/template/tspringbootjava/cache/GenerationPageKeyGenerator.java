@@ -0,0 +1,42 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+
+/**
+ * 세대 번호가 포함된 페이지 캐시 key 생성
+ * - 형식: "{generation}:{page}:{size}:{sort}[:{기타 파라미터}]"
+ * - 예: "3:0:10:createdAt: DESC"
+ */
+public class GenerationPageKeyGenerator implements KeyGenerator {
+
+    private final CacheGeneration cacheGeneration;
+    private final String cacheName;
+
+    public GenerationPageKeyGenerator(CacheGeneration cacheGeneration, String cacheName) {
+        this.cacheGeneration = cacheGeneration;
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        StringBuilder key = new StringBuilder()
+                .append(cacheGeneration.current(cacheName));
+
+        for (Object param : params) {
+            key.append(':');
+            if (param instanceof Pageable pageable) {
+                key.append(pageable.getPageNumber())
+                        .append(':')
+                        .append(pageable.getPageSize())
+                        .append(':')
+                        .append(pageable.getSort());
+            } else {
+                key.append(param);
+            }
+        }
+        return key.toString();
+    }
+}
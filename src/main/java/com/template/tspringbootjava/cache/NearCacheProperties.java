@@ -0,0 +1,36 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Near cache(L1, in-process) 설정
+ * - caches에 등록된 캐시 이름만 L1을 사용
+ * - L1 TTL은 Redis(L2) TTL보다 짧게 설정 (다른 노드의 변경 반영 지연 최소화)
+ */
+@ConfigurationProperties(prefix = "app.cache.near")
+public record NearCacheProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue
+        Map<String, CacheSpec> caches
+) {
+
+    public record CacheSpec(
+            @DefaultValue("10000")
+            long maximumSize,
+            @DefaultValue("10s")
+            Duration ttl
+    ) {
+    }
+
+    /**
+     * 캐시 이름에 해당하는 L1 설정 (L1 미사용 시 null)
+     */
+    public CacheSpec specFor(String cacheName) {
+        return enabled ? caches.get(cacheName) : null;
+    }
+}
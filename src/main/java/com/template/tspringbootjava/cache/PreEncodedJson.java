@@ -0,0 +1,18 @@
+package com.template.tspringbootjava.cache;
+
+import java.time.Instant;
+
+/**
+ * API 응답 형식으로 미리 직렬화된 JSON (캐시 값)
+ * - identity: API용 ObjectMapper 로 직렬화한 JSON (@class 등 타입 정보 없음)
+ * - gzip: gzip-threshold 이상 크기인 경우 미리 압축한 JSON (없으면 null)
+ * - id, version: ETag 계산용, updatedAt: Last-Modified
+ */
+public record PreEncodedJson(
+        Long id,
+        Long version,
+        Instant updatedAt,
+        byte[] identity,
+        byte[] gzip
+) {
+}
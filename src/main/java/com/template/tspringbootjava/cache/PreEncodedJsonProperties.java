@@ -0,0 +1,18 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 미리 직렬화된 API JSON 캐시 설정 ("userJson")
+ * - gzip-threshold 이상 크기의 JSON은 gzip 으로 압축한 값도 함께 저장 (Accept-Encoding: gzip 요청에 그대로 응답)
+ */
+@ConfigurationProperties(prefix = "app.cache.pre-encoded-json")
+public record PreEncodedJsonProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue("1KB")
+        DataSize gzipThreshold
+) {
+}
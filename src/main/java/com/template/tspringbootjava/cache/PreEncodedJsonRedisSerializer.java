@@ -0,0 +1,75 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * PreEncodedJson Redis Serializer
+ * - 형식: [0xD1][id 8][version 8][updatedAt 초 8][updatedAt 나노 4][identity 길이 4][identity][gzip 길이 4 (-1: 없음)][gzip]
+ * - version 이 없으면 Long.MIN_VALUE, updatedAt 이 없으면 초 = Long.MIN_VALUE
+ */
+public class PreEncodedJsonRedisSerializer implements RedisSerializer<PreEncodedJson> {
+
+    private static final byte MAGIC = (byte) 0xD1; // 다른 캐시 값 형식과 구분 (0xB1 binary, 0xC1 LZ4, 0xE1 RefreshableValue)
+    private static final long NO_UPDATED_AT = Long.MIN_VALUE;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    @Override
+    public byte[] serialize(PreEncodedJson value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        byte[] gzip = value.gzip();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + Long.BYTES * 3 + Integer.BYTES * 3
+                + value.identity().length + ((gzip != null) ? gzip.length : 0));
+        buffer.put(MAGIC)
+                .putLong(value.id())
+                .putLong((value.version() != null) ? value.version() : NO_VERSION)
+                .putLong((value.updatedAt() != null) ? value.updatedAt().getEpochSecond() : NO_UPDATED_AT)
+                .putInt((value.updatedAt() != null) ? value.updatedAt().getNano() : 0)
+                .putInt(value.identity().length)
+                .put(value.identity());
+        if (gzip != null) {
+            buffer.putInt(gzip.length).put(gzip);
+        } else {
+            buffer.putInt(-1);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public PreEncodedJson deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            throw new SerializationException("Not a PreEncodedJson value");
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            long id = buffer.getLong();
+            long storedVersion = buffer.getLong();
+            long seconds = buffer.getLong();
+            int nanos = buffer.getInt();
+            byte[] identity = new byte[buffer.getInt()];
+            buffer.get(identity);
+            int gzipLength = buffer.getInt();
+            byte[] gzip = null;
+            if (gzipLength >= 0) {
+                gzip = new byte[gzipLength];
+                buffer.get(gzip);
+            }
+            Long version = (storedVersion != NO_VERSION) ? storedVersion : null;
+            Instant updatedAt = (seconds != NO_UPDATED_AT) ? Instant.ofEpochSecond(seconds, nanos) : null;
+            return new PreEncodedJson(id, version, updatedAt, identity, gzip);
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new SerializationException("Corrupted PreEncodedJson value", e);
+        }
+    }
+}
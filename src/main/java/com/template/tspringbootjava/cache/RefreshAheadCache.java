@@ -0,0 +1,269 @@
+package com.template.tspringbootjava.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 만료 전 갱신(refresh-ahead) Cache decorator
+ * - 값을 RefreshableValue(값 + soft 만료 시각 + 로딩 시간)로 감싸서 저장
+ * - @Cacheable(sync = true)의 get(key, valueLoader) 경로에서 갱신 여부 판단
+ *   - refresh-window 구간: XFetch 확률(now - delta * beta * ln(rand) >= expiry)로 갱신
+ *   - soft 만료 이후: 이전 값을 그대로 응답하고 갱신 (Redis TTL = ttl + max-stale)
+ * - 갱신은 executor(virtual thread)에서 실행, 같은 key에 대해 노드당 하나만 진행
+ * - 갱신 중 put/evict(@CachePut, @CacheEvict)가 있으면 갱신 결과를 저장하지 않음
+ *   - 노드 내: key별 RefreshState 무효화 (확인과 저장을 같은 lock 안에서 수행)
+ *   - 노드 간: 저장 직전 현재 엔트리가 갱신을 시작한 엔트리와 같은지 확인 (다른 노드의 put/evict 감지, best effort)
+ */
+@Slf4j
+public class RefreshAheadCache implements Cache {
+
+    private final Cache delegate;
+    private final RefreshAheadProperties.CacheSpec spec;
+    private final Executor refreshExecutor;
+
+    private final ConcurrentMap<Object, RefreshState> refreshing = new ConcurrentHashMap<>();
+    // @CachePut 등 loader 없이 저장되는 값의 delta로 사용 (최근 로딩 시간 평균)
+    private volatile long averageLoadMillis = 1L;
+
+    private final Counter refreshScheduled;
+    private final Counter refreshFailed;
+    private final Counter refreshDiscarded;
+    private final Counter staleServed;
+
+    public RefreshAheadCache(Cache delegate,
+                             RefreshAheadProperties.CacheSpec spec,
+                             Executor refreshExecutor,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.spec = spec;
+        this.refreshExecutor = refreshExecutor;
+
+        String name = delegate.getName();
+        this.refreshScheduled = Counter.builder("cache.refresh.scheduled")
+                .tag("cache", name)
+                .description("백그라운드 갱신 요청 수")
+                .register(meterRegistry);
+        this.refreshFailed = Counter.builder("cache.refresh.failed")
+                .tag("cache", name)
+                .description("백그라운드 갱신 실패 수")
+                .register(meterRegistry);
+        this.refreshDiscarded = Counter.builder("cache.refresh.discarded")
+                .tag("cache", name)
+                .description("갱신 중 put/evict 가 있어 저장하지 않은 갱신 수")
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("cache.refresh.stale.served")
+                .tag("cache", name)
+                .description("soft 만료 이후 이전 값으로 응답한 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null && cached.get() instanceof RefreshableValue refreshable) {
+            if (shouldRefresh(refreshable, System.currentTimeMillis())) {
+                scheduleRefresh(key, refreshable, valueLoader);
+            }
+            return (T) refreshable.value();
+        }
+        if (cached != null && cached.get() != null) {
+            return (T) cached.get(); // 이전 형식 엔트리 (메타데이터 없음, TTL 만료까지 사용)
+        }
+
+        // miss 는 위에서 확인했으므로 재조회 없이 로딩 (SingleFlightCache)
+        Callable<RefreshableValue> loader = () -> load(valueLoader);
+        Object loaded = (delegate instanceof SingleFlightCache singleFlight)
+                ? singleFlight.loadAfterMiss(key, loader)
+                : delegate.get(key, loader);
+        return (T) unwrap(loaded);
+    }
+
+    /**
+     * 갱신 여부 판단 (XFetch)
+     */
+    private boolean shouldRefresh(RefreshableValue refreshable, long now) {
+        long softExpiresAt = refreshable.softExpiresAt();
+        if (now >= softExpiresAt) {
+            staleServed.increment();
+            return true;
+        }
+        if (softExpiresAt - now > spec.refreshWindow().toMillis()) {
+            return false;
+        }
+
+        double delta = Math.max(refreshable.loadMillis(), 1L);
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return now - delta * spec.beta() * Math.log(random) >= softExpiresAt;
+    }
+
+    private void scheduleRefresh(Object key, RefreshableValue expected, Callable<?> valueLoader) {
+        RefreshState state = new RefreshState();
+        if (refreshing.putIfAbsent(key, state) != null) {
+            return;
+        }
+        refreshScheduled.increment();
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    RefreshableValue refreshed = load(valueLoader);
+                    if (refreshed != null && !storeRefreshed(key, state, expected, refreshed)) {
+                        refreshDiscarded.increment();
+                        log.debug("RefreshAheadCache - refresh discarded (concurrent write): {}::{}", getName(), key);
+                    }
+                } catch (Throwable e) {
+                    // 갱신 실패 시 이전 값은 Redis TTL(ttl + max-stale)까지 유지
+                    refreshFailed.increment();
+                    log.debug("RefreshAheadCache - refresh failed: {}::{}, {}", getName(), key, e.getMessage());
+                } finally {
+                    refreshing.remove(key, state);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(key, state);
+            refreshFailed.increment();
+            log.debug("RefreshAheadCache - refresh rejected: {}::{}, {}", getName(), key, e.getMessage());
+        }
+    }
+
+    /**
+     * 갱신 결과 저장 (갱신 시작 이후 put/evict 가 없었던 경우만)
+     * - 로딩이 커밋 전 데이터를 읽었어도, 커밋 후 @CachePut/@CacheEvict 값을 덮어쓰지 않음
+     */
+    private boolean storeRefreshed(Object key, RefreshState state, RefreshableValue expected, RefreshableValue refreshed) {
+        synchronized (state) {
+            if (state.invalidated) {
+                return false;
+            }
+            ValueWrapper current = delegate.get(key);
+            if (current == null || !expected.equals(current.get())) {
+                return false;
+            }
+            delegate.put(key, refreshed);
+            return true;
+        }
+    }
+
+    /**
+     * put/evict 전에 호출: 진행 중인 갱신 결과를 버림
+     * - 갱신 저장(storeRefreshed)이 먼저 끝났다면 이후 put/evict 가 덮어씀
+     */
+    private void invalidateRefresh(Object key) {
+        RefreshState state = refreshing.get(key);
+        if (state != null) {
+            state.invalidate();
+        }
+    }
+
+    private void invalidateAllRefreshes() {
+        refreshing.values().forEach(RefreshState::invalidate);
+    }
+
+    private RefreshableValue load(Callable<?> valueLoader) throws Exception {
+        long start = System.nanoTime();
+        Object value = valueLoader.call();
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        averageLoadMillis = (averageLoadMillis * 7 + loadMillis) / 8;
+
+        return (value != null) ? wrap(value, loadMillis) : null;
+    }
+
+    private RefreshableValue wrap(Object value, long loadMillis) {
+        return new RefreshableValue(value, System.currentTimeMillis() + spec.ttl().toMillis(), loadMillis);
+    }
+
+    private static Object unwrap(Object value) {
+        return (value instanceof RefreshableValue refreshable) ? refreshable.value() : value;
+    }
+
+    private static ValueWrapper unwrap(ValueWrapper wrapper) {
+        return (wrapper != null) ? new SimpleValueWrapper(unwrap(wrapper.get())) : null;
+    }
+
+    /* ----- 저장/조회 시 RefreshableValue 감싸기/풀기 ----- */
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return unwrap(delegate.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = (wrapper != null) ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        invalidateRefresh(key);
+        delegate.put(key, (value != null) ? wrap(value, averageLoadMillis) : null);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        invalidateRefresh(key);
+        return unwrap(delegate.putIfAbsent(key, (value != null) ? wrap(value, averageLoadMillis) : null));
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidateRefresh(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        invalidateRefresh(key);
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidateAllRefreshes();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        invalidateAllRefreshes();
+        return delegate.invalidate();
+    }
+
+    /**
+     * key별 진행 중인 갱신 (put/evict 시 무효화)
+     */
+    private static final class RefreshState {
+        private boolean invalidated;
+
+        private synchronized void invalidate() {
+            invalidated = true;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 캐시 만료 전 갱신(refresh-ahead, stale-while-revalidate) 설정
+ * - caches에 등록된 캐시만 사용
+ * - ttl 이전: refresh-window 구간에서 확률적으로(XFetch) 백그라운드 갱신
+ * - ttl 이후 ~ ttl + max-stale: 이전 값을 그대로 응답하고 백그라운드 갱신
+ * - Redis 엔트리 TTL은 ttl + max-stale
+ */
+@ConfigurationProperties(prefix = "app.cache.refresh-ahead")
+public record RefreshAheadProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue
+        Map<String, CacheSpec> caches
+) {
+
+    /**
+     * @param ttl           갱신 기준 TTL (soft TTL)
+     * @param refreshWindow ttl 만료 전 확률적 갱신을 시작하는 구간
+     * @param maxStale      ttl 만료 후 이전 값을 응답할 수 있는 최대 시간
+     * @param beta          XFetch 가중치 (클수록 일찍 갱신)
+     */
+    public record CacheSpec(
+            @DefaultValue("1m")
+            Duration ttl,
+            @DefaultValue("15s")
+            Duration refreshWindow,
+            @DefaultValue("30s")
+            Duration maxStale,
+            @DefaultValue("1.0")
+            double beta
+    ) {
+    }
+
+    /**
+     * 캐시 이름에 해당하는 refresh-ahead 설정 (미사용 시 null)
+     */
+    public CacheSpec specFor(String cacheName) {
+        return enabled ? caches.get(cacheName) : null;
+    }
+
+    /**
+     * Redis 엔트리 TTL (refresh-ahead 사용 시 ttl + max-stale)
+     */
+    public Duration redisTtl(String cacheName, Duration defaultTtl) {
+        CacheSpec spec = specFor(cacheName);
+        return (spec != null) ? spec.ttl().plus(spec.maxStale()) : defaultTtl;
+    }
+}
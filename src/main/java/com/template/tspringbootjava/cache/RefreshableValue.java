@@ -0,0 +1,15 @@
+package com.template.tspringbootjava.cache;
+
+/**
+ * refresh-ahead 캐시에 저장되는 값 (메타데이터 포함)
+ *
+ * @param value         실제 캐시 값
+ * @param softExpiresAt 갱신 기준 만료 시각 (epoch millis, 0: 알 수 없음 - 이전 형식 엔트리)
+ * @param loadMillis    값을 로딩하는 데 걸린 시간 (XFetch delta)
+ */
+public record RefreshableValue(
+        Object value,
+        long softExpiresAt,
+        long loadMillis
+) {
+}
@@ -0,0 +1,65 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * RefreshableValue Redis Serializer
+ * - 형식: [0xE1][version][softExpiresAt 8 bytes][loadMillis 4 bytes][inner serializer bytes]
+ * - header가 없는 이전 형식 엔트리는 softExpiresAt = 0 (즉시 갱신 대상)으로 읽음
+ */
+public class RefreshableValueRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte MAGIC = (byte) 0xE1;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 1 + 1 + Long.BYTES + Integer.BYTES;
+
+    private final RedisSerializer<Object> inner;
+
+    @SuppressWarnings("unchecked")
+    public RefreshableValueRedisSerializer(RedisSerializer<?> inner) {
+        this.inner = (RedisSerializer<Object>) inner;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!(value instanceof RefreshableValue refreshable)) {
+            return inner.serialize(value);
+        }
+
+        byte[] body = inner.serialize(refreshable.value());
+        if (body == null) {
+            return null;
+        }
+
+        return ByteBuffer.allocate(HEADER_SIZE + body.length)
+                .put(MAGIC)
+                .put(VERSION)
+                .putLong(refreshable.softExpiresAt())
+                .putInt((int) Math.min(refreshable.loadMillis(), Integer.MAX_VALUE))
+                .put(body)
+                .array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+
+        if (bytes.length < HEADER_SIZE || bytes[0] != MAGIC || bytes[1] != VERSION) {
+            // 이전 형식 (header 없음)
+            Object value = inner.deserialize(bytes);
+            return (value != null) ? new RefreshableValue(value, 0L, 0L) : null;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 2, HEADER_SIZE - 2);
+        long softExpiresAt = buffer.getLong();
+        long loadMillis = buffer.getInt();
+        Object value = inner.deserialize(Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length));
+        return (value != null) ? new RefreshableValue(value, softExpiresAt, loadMillis) : null;
+    }
+}
@@ -0,0 +1,241 @@
+package com.template.tspringbootjava.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 miss 동시 로딩 방지(single-flight) Cache decorator
+ * - @Cacheable(sync = true)의 get(key, valueLoader) 경로에 적용
+ * - 노드 내: key별 하나의 loader만 실행, 동시에 요청한 나머지는 같은 결과(또는 예외)를 공유
+ * - 노드 간: lease 사용 시, lease를 획득하지 못한 노드는 캐시 저장을 대기 (waitTimeout 초과 시 직접 로딩)
+ * - 로딩 결과는 putIfAbsent로 저장 (로딩 중 @CachePut 으로 갱신된 값을 덮어쓰지 않음)
+ * - 캐시 조회는 miss 확인 1회 + (lease 획득 시) flight 안에서 재조회 1회
+ *   - 상위 decorator 가 이미 miss 를 확인한 경우 loadAfterMiss() 로 재조회 없이 로딩 (RefreshAheadCache)
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final SingleFlightProperties.Lease leaseProperties;
+    private final CacheLoadLease lease; // null: 노드 간 lease 미사용
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter loads;
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+    private final Counter coalesced;
+    private final Counter leaseAcquired;
+    private final Counter leaseContended;
+    private final Counter leaseTimeout;
+
+    public SingleFlightCache(Cache delegate,
+                             SingleFlightProperties.Lease leaseProperties,
+                             CacheLoadLease lease,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.leaseProperties = leaseProperties;
+        this.lease = lease;
+
+        String name = delegate.getName();
+        this.loads = Counter.builder("cache.singleflight.loads")
+                .tag("cache", name)
+                .description("실제로 실행된 loader 수")
+                .register(meterRegistry);
+        this.loadSuccess = loadTimer(meterRegistry, name, "success");
+        this.loadFailure = loadTimer(meterRegistry, name, "failure");
+        this.coalesced = Counter.builder("cache.singleflight.coalesced")
+                .tag("cache", name)
+                .description("진행 중인 로딩 결과를 대기한 요청 수")
+                .register(meterRegistry);
+        this.leaseAcquired = leaseCounter(meterRegistry, name, "acquired");
+        this.leaseContended = leaseCounter(meterRegistry, name, "contended");
+        this.leaseTimeout = leaseCounter(meterRegistry, name, "timeout");
+
+        Gauge.builder("cache.singleflight.inflight", inFlight, ConcurrentMap::size)
+                .tag("cache", name)
+                .description("진행 중인 로딩 수")
+                .register(meterRegistry);
+    }
+
+    private Timer loadTimer(MeterRegistry meterRegistry, String name, String result) {
+        return Timer.builder("cache.singleflight.load.duration")
+                .tag("cache", name)
+                .tag("result", result)
+                .description("loader 실행 시간 (캐시 miss 시 DB 조회 등)")
+                .register(meterRegistry);
+    }
+
+    private Counter leaseCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("cache.singleflight.lease")
+                .tag("cache", name)
+                .tag("result", result)
+                .description("노드 간 lease 획득 결과")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        return loadAfterMiss(key, valueLoader);
+    }
+
+    /**
+     * 캐시 miss 를 이미 확인한 경우의 로딩 (캐시 재조회 없이 single-flight)
+     * - 진행 중인 로딩이 있으면 그 결과(또는 예외)를 공유
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T loadAfterMiss(Object key, Callable<T> valueLoader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+
+        // 다른 요청이 로딩 중: 결과 대기
+        if (existing != null) {
+            coalesced.increment();
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw new ValueRetrievalException(key, valueLoader, e.getCause());
+            }
+        }
+
+        // 로딩 담당
+        try {
+            Object value = load(key, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (Throwable e) {
+            flight.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) throws Exception {
+        // 노드 내: 재조회 없이 로딩 (miss 확인 직후 끝난 로딩과 겹치면 putIfAbsent 로 먼저 저장된 값 유지)
+        if (lease == null) {
+            return loadAndStore(key, valueLoader);
+        }
+
+        String leaseKey = lease.leaseKey(getName(), key);
+        if (lease.tryAcquire(leaseKey)) {
+            leaseAcquired.increment();
+            try {
+                // 다른 노드가 lease 해제 직전에 저장했을 수 있음 (flight 안의 유일한 재조회)
+                ValueWrapper cached = delegate.get(key);
+                if (cached != null) {
+                    return cached.get();
+                }
+                return loadAndStore(key, valueLoader);
+            } finally {
+                lease.release(leaseKey);
+            }
+        }
+
+        // 다른 노드가 로딩 중: 캐시 저장 대기
+        leaseContended.increment();
+        long deadline = System.nanoTime() + leaseProperties.waitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(leaseProperties.pollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            ValueWrapper cached = delegate.get(key);
+            if (cached != null) {
+                return cached.get();
+            }
+        }
+
+        leaseTimeout.increment();
+        log.debug("SingleFlightCache - lease wait timeout: {}::{}", getName(), key);
+        return loadAndStore(key, valueLoader);
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) throws Exception {
+        loads.increment();
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            loadFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        loadSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (value != null) {
+            delegate.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    /* ----- 나머지는 delegate 그대로 사용 ----- */
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
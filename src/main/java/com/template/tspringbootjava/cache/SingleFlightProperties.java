@@ -0,0 +1,38 @@
+package com.template.tspringbootjava.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 캐시 miss 동시 로딩 방지(single-flight) 설정
+ * - 노드 내: 같은 key에 대해 하나의 loader만 실행하고 나머지 요청은 결과를 대기
+ * - 노드 간(lease): Redis lease를 획득한 노드만 loader 실행, 나머지 노드는 캐시 저장을 대기
+ */
+@ConfigurationProperties(prefix = "app.cache.single-flight")
+public record SingleFlightProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue
+        Lease lease
+) {
+
+    /**
+     * @param enabled      노드 간 lease 사용 여부 (다중 pod 환경)
+     * @param ttl          lease 유지 시간 (loader 최대 실행 시간 이상으로 설정)
+     * @param waitTimeout  lease를 획득하지 못한 경우 캐시 저장을 기다리는 최대 시간 (초과 시 직접 로딩)
+     * @param pollInterval 대기 중 캐시 재조회 간격
+     */
+    public record Lease(
+            @DefaultValue("false")
+            boolean enabled,
+            @DefaultValue("2s")
+            Duration ttl,
+            @DefaultValue("1s")
+            Duration waitTimeout,
+            @DefaultValue("20ms")
+            Duration pollInterval
+    ) {
+    }
+}
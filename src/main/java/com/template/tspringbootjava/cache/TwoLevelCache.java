@@ -0,0 +1,232 @@
+package com.template.tspringbootjava.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 2-Tier Cache
+ * - L1: Caffeine (in-process, 노드별)
+ * - L2: Redis (공유)
+ * - 조회: L1 -> (miss) L2 -> (hit) L1 저장
+ * - 저장/삭제: L2, L1 모두 반영 + 다른 노드의 L1 무효화 발행 (CacheInvalidationBus)
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus; // null: 노드 간 무효화 미사용
+
+    // tier별 hit/miss (생성 시점에 미리 등록)
+    private final Counter localHit;
+    private final Counter localMiss;
+    private final Counter remoteHit;
+    private final Counter remoteMiss;
+
+    public TwoLevelCache(String name,
+                         NearCacheProperties.CacheSpec spec,
+                         Cache remote,
+                         CacheInvalidationBus invalidationBus,
+                         MeterRegistry meterRegistry) {
+        // Redis 캐시 설정과 동일하게 null 값은 캐싱하지 않음
+        super(false);
+        this.name = name;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.ttl())
+                .recordStats()
+                .build();
+
+        this.localHit = counter(meterRegistry, "l1", "hit");
+        this.localMiss = counter(meterRegistry, "l1", "miss");
+        this.remoteHit = counter(meterRegistry, "l2", "hit");
+        this.remoteMiss = counter(meterRegistry, "l2", "miss");
+
+        // L1 eviction(크기 초과/만료) 수: cache.evictions{cache,cache.manager="near"}
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("cache.manager", "near"));
+
+        Gauge.builder("cache.near.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                .tag("cache", name)
+                .description("L1(near cache) 추정 엔트리 수")
+                .register(meterRegistry);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.near.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("2-Tier 캐시 tier별 조회 결과")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+
+        Object value = local.getIfPresent(localKey);
+        if (value != null) {
+            localHit.increment();
+            return value;
+        }
+        localMiss.increment();
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper == null || wrapper.get() == null) {
+            remoteMiss.increment();
+            return null;
+        }
+        remoteHit.increment();
+
+        value = wrapper.get();
+        local.put(localKey, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+
+        // L2 로딩 (RedisCache에서 loader 실행 + 저장)
+        T loaded = remote.get(key, valueLoader);
+        if (loaded != null) {
+            local.put(toLocalKey(key), loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        if (value != null) {
+            local.put(toLocalKey(key), value);
+        } else {
+            local.invalidate(toLocalKey(key));
+        }
+        // 값이 변경되었으므로 다른 노드의 L1은 무효화 (다음 조회 시 L2에서 갱신)
+        publishEvict(key);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object current = (existing != null) ? existing.get() : value;
+        if (current != null) {
+            local.put(toLocalKey(key), current);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(toLocalKey(key));
+        publishEvict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(toLocalKey(key));
+        publishEvict(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        publishClear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        publishClear();
+        return invalidated;
+    }
+
+    /* ----- 다른 노드에서 수신한 무효화 (L1만 반영) ----- */
+
+    public void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /* ----- 일괄 조회/저장 (BulkCacheAccessor) ----- */
+
+    public Object getLocal(String key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHit.increment();
+        } else {
+            localMiss.increment();
+        }
+        return value;
+    }
+
+    public void putLocal(String key, Object value) {
+        local.put(key, value);
+    }
+
+    /**
+     * L2 일괄 삭제 후 L1 삭제 + 다른 노드의 L1 무효화 발행
+     */
+    public void evictLocalAndPublish(String key) {
+        local.invalidate(key);
+        publishEvict(key);
+    }
+
+    public void recordRemote(int hits, int misses) {
+        remoteHit.increment(hits);
+        remoteMiss.increment(misses);
+    }
+
+    private void publishEvict(Object key) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(name, toLocalKey(key));
+        }
+    }
+
+    private void publishClear() {
+        if (invalidationBus != null) {
+            invalidationBus.publishClear(name);
+        }
+    }
+
+    /**
+     * L1 key는 문자열로 통일 (RedisCache의 key 변환과 동일하게 toString 기준)
+     * - Long 1, Integer 1 등 타입 차이로 L1/L2 간 key가 어긋나지 않도록 함
+     */
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,114 @@
+package com.template.tspringbootjava.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 2-Tier CacheManager
+ * - Redis CacheManager(L2) 앞에 L1(Caffeine)을 둔 composite CacheManager
+ * - NearCacheProperties에 설정된 캐시만 TwoLevelCache로 감싸고, 나머지는 L2 캐시를 그대로 사용
+ * - 다른 노드에서 수신한 무효화는 L1에만 반영 (CacheInvalidationListener)
+ * - SingleFlightProperties 사용 시 SingleFlightCache로 감싸서 캐시 miss 동시 로딩 방지
+ * - RefreshAheadProperties에 설정된 캐시는 RefreshAheadCache로 감싸서 만료 전 백그라운드 갱신
+ * - 구성 순서: RefreshAheadCache -> SingleFlightCache -> TwoLevelCache -> RedisCache
+ */
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager
+        implements CacheInvalidationListener {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final SingleFlightProperties singleFlightProperties;
+    private final RefreshAheadProperties refreshAheadProperties;
+    private final Executor refreshExecutor;
+    private final CacheInvalidationBus invalidationBus; // null: 노드 간 무효화 미사용
+    private final CacheLoadLease cacheLoadLease; // null: 노드 간 lease 미사용
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, TwoLevelCache> nearCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                NearCacheProperties properties,
+                                SingleFlightProperties singleFlightProperties,
+                                RefreshAheadProperties refreshAheadProperties,
+                                Executor refreshExecutor,
+                                CacheInvalidationBus invalidationBus,
+                                CacheLoadLease cacheLoadLease,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.singleFlightProperties = singleFlightProperties;
+        this.refreshAheadProperties = refreshAheadProperties;
+        this.refreshExecutor = refreshExecutor;
+        this.invalidationBus = invalidationBus;
+        this.cacheLoadLease = cacheLoadLease;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return remoteCacheManager.getCacheNames()
+                .stream()
+                .map(this::createCache)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    private Cache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+
+        Cache cache = remote;
+        NearCacheProperties.CacheSpec spec = properties.specFor(name);
+        if (spec != null) {
+            cache = nearCaches.computeIfAbsent(name,
+                    cacheName -> new TwoLevelCache(cacheName, spec, remote, invalidationBus, meterRegistry));
+        }
+
+        if (singleFlightProperties.enabled()) {
+            cache = new SingleFlightCache(cache, singleFlightProperties.lease(), cacheLoadLease, meterRegistry);
+        }
+
+        RefreshAheadProperties.CacheSpec refreshSpec = refreshAheadProperties.specFor(name);
+        if (refreshSpec != null) {
+            cache = new RefreshAheadCache(cache, refreshSpec, refreshExecutor, meterRegistry);
+        }
+        return cache;
+    }
+
+    /**
+     * L1을 사용하는 캐시의 TwoLevelCache (L1 미사용 캐시는 null)
+     */
+    public TwoLevelCache getNearCache(String name) {
+        getCache(name);
+        return nearCaches.get(name);
+    }
+
+    @Override
+    public void onInvalidation(String cacheName, String key) {
+        TwoLevelCache cache = nearCaches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        if (key == null) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(key);
+        }
+    }
+}
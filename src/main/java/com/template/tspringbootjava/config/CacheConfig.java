@@ -0,0 +1,156 @@
+package com.template.tspringbootjava.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.template.tspringbootjava.cache.BulkCacheAccessor;
+import com.template.tspringbootjava.cache.CacheGeneration;
+import com.template.tspringbootjava.cache.CacheInvalidationBus;
+import com.template.tspringbootjava.cache.CacheInvalidationProperties;
+import com.template.tspringbootjava.cache.CacheLoadLease;
+import com.template.tspringbootjava.cache.CacheValueFormatProperties;
+import com.template.tspringbootjava.cache.CompressionProperties;
+import com.template.tspringbootjava.cache.GenerationPageKeyGenerator;
+import com.template.tspringbootjava.cache.NearCacheProperties;
+import com.template.tspringbootjava.cache.PreEncodedJsonProperties;
+import com.template.tspringbootjava.cache.RefreshAheadProperties;
+import com.template.tspringbootjava.cache.SingleFlightProperties;
+import com.template.tspringbootjava.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties({
+        NearCacheProperties.class,
+        CacheInvalidationProperties.class,
+        SingleFlightProperties.class,
+        RefreshAheadProperties.class,
+        CompressionProperties.class,
+        PreEncodedJsonProperties.class,
+        CacheValueFormatProperties.class
+})
+public class CacheConfig {
+
+    /**
+     * 2-Tier CacheManager (L1: Caffeine, L2: Redis)
+     * - @Primary: @Cacheable, @CachePut, @CacheEvict 에서 사용
+     * - app.cache.near.caches 에 설정된 캐시만 L1 사용
+     * - transactionAware: 트랜잭션 커밋 이후 put/evict 반영
+     * - put/evict/clear 시 다른 노드의 L1 무효화 (CacheInvalidationBus)
+     * - @Cacheable(sync = true) 캐시 miss 시 key별 단일 로딩 (SingleFlightCache)
+     * - 만료 임박/만료된 엔트리는 이전 값으로 응답하고 백그라운드 갱신 (RefreshAheadCache)
+     */
+    @Bean
+    @Primary
+    public CacheManager cacheManager(RedisCacheManager redisCacheManager,
+                                     NearCacheProperties nearCacheProperties,
+                                     SingleFlightProperties singleFlightProperties,
+                                     RefreshAheadProperties refreshAheadProperties,
+                                     @Qualifier("cacheRefreshExecutor") ExecutorService cacheRefreshExecutor,
+                                     ObjectProvider<CacheInvalidationBus> cacheInvalidationBus,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     MeterRegistry meterRegistry) {
+        CacheInvalidationBus invalidationBus = cacheInvalidationBus.getIfAvailable();
+
+        // 노드 간 lease (다중 pod 환경에서 선택적으로 사용)
+        SingleFlightProperties.Lease lease = singleFlightProperties.lease();
+        CacheLoadLease cacheLoadLease = lease.enabled()
+                ? new CacheLoadLease(stringRedisTemplate, lease.ttl())
+                : null;
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                nearCacheProperties,
+                singleFlightProperties,
+                refreshAheadProperties,
+                cacheRefreshExecutor,
+                invalidationBus,
+                cacheLoadLease,
+                meterRegistry
+        );
+        cacheManager.setTransactionAware(true);
+
+        if (invalidationBus != null) {
+            invalidationBus.addListener(cacheManager);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * 여러 key 일괄 조회/저장 (L1 + Redis MGET/pipeline)
+     * - 단건 @Cacheable 경로와 같은 key/직렬화/TTL 사용
+     */
+    @Bean
+    public BulkCacheAccessor bulkCacheAccessor(RedisCacheManager redisCacheManager,
+                                               CacheManager cacheManager,
+                                               RedisConnectionFactory redisConnectionFactory,
+                                               RefreshAheadProperties refreshAheadProperties) {
+        TwoLevelCacheManager twoLevelCacheManager = (cacheManager instanceof TwoLevelCacheManager manager)
+                ? manager
+                : null;
+        return new BulkCacheAccessor(redisCacheManager, twoLevelCacheManager,
+                redisConnectionFactory, refreshAheadProperties);
+    }
+
+    /**
+     * 캐시 백그라운드 갱신용 Executor (virtual thread)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService cacheRefreshExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("cache-refresh-", 0).factory()
+        );
+    }
+
+    /**
+     * "userList" 캐시 key 생성 (세대 번호 포함)
+     * - 사용자 생성/수정/삭제 시 CacheGeneration.bumpAfterCommit("userList")로 일괄 무효화
+     */
+    @Bean
+    public KeyGenerator userListKeyGenerator(CacheGeneration cacheGeneration) {
+        return new GenerationPageKeyGenerator(cacheGeneration, "userList");
+    }
+
+    /**
+     * Redis pub/sub 수신 컨테이너 (기존 RedisConnectionFactory 사용)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    /**
+     * 노드 간 L1 무효화 버스
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                                     ObjectMapper objectMapper,
+                                                     CacheInvalidationProperties cacheInvalidationProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new CacheInvalidationBus(
+                stringRedisTemplate,
+                redisMessageListenerContainer,
+                objectMapper,
+                cacheInvalidationProperties,
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.template.tspringbootjava.config;
+
+import com.template.tspringbootjava.monitoring.QueryBudget;
+import com.template.tspringbootjava.monitoring.QueryBudgetProperties;
+import com.template.tspringbootjava.monitoring.QueryCountFilter;
+import com.template.tspringbootjava.monitoring.QueryCountListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션 지표 (GET /actuator/prometheus)
+ * - Spring Boot 자동 등록: http.server.requests, spring.data.repository.invocations,
+ *   hikaricp.connections.acquire, lettuce.command.*, cache.gets/puts/removals (Redis, statistics 사용 시)
+ * - 직접 등록: cache.near.*, cache.singleflight.*, cache.refresh.*, user.service (@Timed),
+ *   http.server.requests.queries/db.time/query.budget.exceeded (app.query-budget)
+ * - histogram 설정: management.metrics.distribution.*
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+@ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    /**
+     * DataSource를 datasource-proxy로 감싸 JDBC 실행마다 요청별 쿼리 수/실행 시간 집계
+     * - static: BeanPostProcessor는 다른 Bean보다 먼저 생성
+     */
+    @Bean
+    public static BeanPostProcessor queryCountDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryCountListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryBudget queryBudget(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        return new QueryBudget(properties, meterRegistry);
+    }
+
+    /**
+     * API 요청 단위 쿼리 집계 범위 (/api/**)
+     */
+    @Bean
+    public QueryCountFilter queryCountFilter(QueryBudget queryBudget) {
+        return new QueryCountFilter(queryBudget);
+    }
+}
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.info.BuildProperties;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.context.annotation.Bean;
@@ -14,8 +15,13 @@ import java.time.ZoneId;
 //@OpenAPIDefinition(
 //        info = @Info(title = "API Documentation", version = "1.0", description = "API Documentation")
 //)
+/**
+ * OpenAPI 문서 설정
+ * - springdoc.api-docs.enabled = false (stg, prd) 이면 등록하지 않음 (문서 모델/그룹 생성 생략)
+ */
 @Configuration
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "springdoc.api-docs", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class OpenApiConfig {
 
     private final BuildProperties buildProperties;
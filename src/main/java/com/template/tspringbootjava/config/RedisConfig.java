@@ -8,11 +8,18 @@ import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.template.tspringbootjava.cache.CacheValueFormatProperties;
+import com.template.tspringbootjava.cache.CompactBinaryRedisSerializer;
+import com.template.tspringbootjava.cache.CompressingRedisSerializer;
+import com.template.tspringbootjava.cache.CompressionProperties;
+import com.template.tspringbootjava.cache.PreEncodedJsonRedisSerializer;
+import com.template.tspringbootjava.cache.RefreshAheadProperties;
+import com.template.tspringbootjava.cache.RefreshableValueRedisSerializer;
 import com.template.tspringbootjava.dto.common.PageResponseDto;
 import com.template.tspringbootjava.dto.common.PageResponseDtoMixIn;
 import com.template.tspringbootjava.dto.user.UserResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,6 +31,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
@@ -128,16 +136,37 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis CacheManager (L2)
+     * - 트랜잭션 연동(transactionAware)은 앞단의 CacheManager(CacheConfig.cacheManager)에서 처리
+     * - refresh-ahead 캐시: 값을 RefreshableValue로 저장, TTL = ttl + max-stale
+     * - app.cache.value-format: "users", "userList" 값 저장 형식 (json | binary, CacheValueFormatProperties)
+     * - app.cache.compression: threshold 이상 크기의 값은 LZ4 압축 후 저장
+     * - enableStatistics: cache.gets/puts/removals{cache,cache.manager="redis"} 지표 (Spring Boot가 캐시 이름별로 등록)
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
-                                     @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
-                                     GenericJackson2JsonRedisSerializer jsonRedisSerializer) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory redisConnectionFactory,
+                                               @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+                                               GenericJackson2JsonRedisSerializer jsonRedisSerializer,
+                                               RefreshAheadProperties refreshAheadProperties,
+                                               CompressionProperties compressionProperties,
+                                               MeterRegistry meterRegistry,
+                                               CacheValueFormatProperties cacheValueFormatProperties) {
 
         /* Custom JSON Serializers 생성 */
         // UserResponseDto
         Jackson2JsonRedisSerializer<UserResponseDto> userResponseSerializer =
                 new Jackson2JsonRedisSerializer<>(redisObjectMapper, UserResponseDto.class);
 
+        /* 값 형식 선택 (binary: compact binary, JSON은 이전 엔트리 읽기용 fallback) */
+        boolean binary = cacheValueFormatProperties.binary();
+        RedisSerializer<?> userValueSerializer = binary
+                ? new CompactBinaryRedisSerializer(userResponseSerializer)
+                : userResponseSerializer;
+        RedisSerializer<?> userListValueSerializer = binary
+                ? new CompactBinaryRedisSerializer(jsonRedisSerializer)
+                : jsonRedisSerializer;
+
         // 기본 캐시 설정
         RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
@@ -157,7 +186,7 @@ public class RedisConfig {
         // "users"
         RedisCacheConfiguration userConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(1))
+                .entryTtl(refreshAheadProperties.redisTtl("users", Duration.ofMinutes(1)))
                 .disableCachingNullValues()
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair
@@ -165,11 +194,27 @@ public class RedisConfig {
                 )
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair
-                                .fromSerializer(userResponseSerializer)
+                                .fromSerializer(compressed(compressionProperties, "users", meterRegistry,
+                                        refreshable(refreshAheadProperties, "users", userValueSerializer)))
                 );
 
         // "userList"
         RedisCacheConfiguration userListConfig = RedisCacheConfiguration
+                .defaultCacheConfig()
+                .entryTtl(refreshAheadProperties.redisTtl("userList", Duration.ofMinutes(1)))
+                .disableCachingNullValues()
+                .serializeKeysWith(
+                        RedisSerializationContext.SerializationPair
+                                .fromSerializer(new StringRedisSerializer())
+                )
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair
+                                .fromSerializer(compressed(compressionProperties, "userList", meterRegistry,
+                                        refreshable(refreshAheadProperties, "userList", userListValueSerializer)))
+                );
+
+        // "userJson" (API 응답 JSON, 이미 gzip 된 값 포함 - LZ4 압축 미적용)
+        RedisCacheConfiguration userJsonConfig = RedisCacheConfiguration
                 .defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(1))
                 .disableCachingNullValues()
@@ -179,16 +224,46 @@ public class RedisConfig {
                 )
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair
-                                .fromSerializer(jsonRedisSerializer)
+                                .fromSerializer(new PreEncodedJsonRedisSerializer())
                 );
 
+        // "userMissing" (존재하지 않는 사용자 id, negative cache - 짧은 TTL)
+        RedisCacheConfiguration userMissingConfig = defaultCacheConfig
+                .entryTtl(Duration.ofSeconds(30));
+
         return RedisCacheManager
                 .builder(redisConnectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withCacheConfiguration("users", userConfig)
                 .withCacheConfiguration("userList", userListConfig)
-                .transactionAware()
+                .withCacheConfiguration("userJson", userJsonConfig)
+                .withCacheConfiguration("userMissing", userMissingConfig)
+                .enableStatistics()
                 .build();
 
     }
+
+    /**
+     * refresh-ahead 캐시인 경우 RefreshableValue 형식으로 감싼 Serializer
+     */
+    private RedisSerializer<?> refreshable(RefreshAheadProperties refreshAheadProperties,
+                                           String cacheName,
+                                           RedisSerializer<?> serializer) {
+        return (refreshAheadProperties.specFor(cacheName) != null)
+                ? new RefreshableValueRedisSerializer(serializer)
+                : serializer;
+    }
+
+    /**
+     * 압축 사용 시 threshold 이상 크기의 값을 압축하는 Serializer
+     */
+    private RedisSerializer<?> compressed(CompressionProperties compressionProperties,
+                                          String cacheName,
+                                          MeterRegistry meterRegistry,
+                                          RedisSerializer<?> serializer) {
+        return compressionProperties.enabled()
+                ? new CompressingRedisSerializer(serializer, cacheName,
+                        (int) compressionProperties.threshold().toBytes(), meterRegistry)
+                : serializer;
+    }
 }
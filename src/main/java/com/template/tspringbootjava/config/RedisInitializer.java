@@ -1,26 +1,42 @@
 package com.template.tspringbootjava.config;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 /**
  * Redis 시작 시, Redis에서 저장되어 있던 cache들을 삭제하기 위해 추가.
+ * - app.cache.clear-on-startup = true 인 경우만 실행 (local, dev)
+ *   - 공유 Redis 에서는 다른 pod 가 사용 중인 캐시도 삭제되므로 stg/prd 에서는 사용하지 않음
+ * - 시작 시간에 포함되지 않도록 ApplicationReadyEvent 이후 별도 thread 에서 실행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.cache", name = "clear-on-startup", havingValue = "true")
 public class RedisInitializer {
 
     private final CacheManager cacheManager;
     /* 특정 패턴의 캐시만 삭제 예시 - PART A */
 //    private final RedisTemplate<String, Object> redisTemplate;
 
-    @PostConstruct
-    public void clearAllCaches() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void clearAllCachesAsync() {
+        Thread.ofVirtual().name("redis-initializer").start(() -> {
+            try {
+                clearAllCaches();
+            } catch (Exception e) {
+                log.warn("RedisInitializer - Cache initialization failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    void clearAllCaches() {
         cacheManager.getCacheNames()
                 .forEach(cacheName -> {
                     Cache cache = cacheManager.getCache(cacheName);
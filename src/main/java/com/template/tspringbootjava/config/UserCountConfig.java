@@ -0,0 +1,23 @@
+package com.template.tspringbootjava.config;
+
+import com.template.tspringbootjava.repository.UserRepository;
+import com.template.tspringbootjava.service.UserCountProperties;
+import com.template.tspringbootjava.service.UserCountProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserCountProperties.class)
+public class UserCountConfig {
+
+    /**
+     * 사용자 목록 전체 개수 provider
+     * - 기본: 추정 개수 (n_live_tup + 로컬 증감), exactCount=true 요청 시 count(*)
+     */
+    @Bean
+    public UserCountProvider userCountProvider(UserRepository userRepository,
+                                               UserCountProperties userCountProperties) {
+        return new UserCountProvider(userRepository, userCountProperties);
+    }
+}
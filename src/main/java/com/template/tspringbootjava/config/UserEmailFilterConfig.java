@@ -0,0 +1,30 @@
+package com.template.tspringbootjava.config;
+
+import com.template.tspringbootjava.repository.UserRepository;
+import com.template.tspringbootjava.service.UserEmailFilter;
+import com.template.tspringbootjava.service.UserEmailFilterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(UserEmailFilterProperties.class)
+public class UserEmailFilterConfig {
+
+    /**
+     * 이메일 중복 확인 사전 검사 (Bloom filter)
+     * - enabled = false: filter 를 만들지 않고 항상 existsByEmail 조회
+     */
+    @Bean
+    public UserEmailFilter userEmailFilter(UserRepository userRepository,
+                                           PlatformTransactionManager transactionManager,
+                                           UserEmailFilterProperties userEmailFilterProperties,
+                                           MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        return new UserEmailFilter(userRepository, readOnlyTransaction, userEmailFilterProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,20 @@
+package com.template.tspringbootjava.config;
+
+import com.template.tspringbootjava.service.UserExportLimiter;
+import com.template.tspringbootjava.service.UserExportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserExportProperties.class)
+public class UserExportConfig {
+
+    /**
+     * 사용자 export 동시 실행 제한 (초과 시 429)
+     */
+    @Bean
+    public UserExportLimiter userExportLimiter(UserExportProperties userExportProperties) {
+        return new UserExportLimiter(userExportProperties);
+    }
+}
@@ -0,0 +1,51 @@
+package com.template.tspringbootjava.config;
+
+import com.template.tspringbootjava.monitoring.VirtualThreadPinningEndpoint;
+import com.template.tspringbootjava.monitoring.VirtualThreadPinningMonitor;
+import com.template.tspringbootjava.monitoring.VirtualThreadPinningProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientOptionsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 실행 모드 (spring.threads.virtual.enabled = true, "virtual-threads" profile)
+ * - Tomcat 요청 처리, applicationTaskExecutor(@Async, MVC 비동기 응답), @Scheduled 를 가상 스레드로 실행
+ * - 캐시 백그라운드 갱신(cacheRefreshExecutor)은 설정과 관계없이 가상 스레드 사용
+ * - pinning 감지: JFR jdk.VirtualThreadPinned -> actuator /virtualthreads, jvm.threads.virtual.pinned
+ * - Redis 동시 명령 수 제한: Lettuce 는 connection 하나를 공유 (pool 없음), 대기 명령 수 상한 초과 시 즉시 실패
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@EnableConfigurationProperties(VirtualThreadPinningProperties.class)
+public class VirtualThreadConfig {
+
+    /**
+     * Lettuce 명령 queue 크기 제한
+     * - 요청 스레드 수 제한이 없으므로, Redis 지연 시 응답 대기 명령이 무제한으로 쌓이지 않도록 함
+     * - 초과 시 RedisException (대기 시간 상한은 spring.data.redis.timeout)
+     */
+    @Bean
+    public LettuceClientOptionsBuilderCustomizer redisRequestQueueLimit(
+            @Value("${app.virtual-threads.redis-max-pending-commands:1024}") int maxPendingCommands) {
+        return builder -> builder.requestQueueSize(maxPendingCommands);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadPinningProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public VirtualThreadPinningEndpoint virtualThreadPinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        return new VirtualThreadPinningEndpoint(monitor);
+    }
+}
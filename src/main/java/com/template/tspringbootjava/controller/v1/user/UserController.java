@@ -1,24 +1,40 @@
 package com.template.tspringbootjava.controller.v1.user;
 
+import com.template.tspringbootjava.cache.PreEncodedJson;
+import com.template.tspringbootjava.dto.common.CursorPageResponseDto;
 import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserBatchCreateRequestDto;
+import com.template.tspringbootjava.dto.user.UserBatchCreateResponseDto;
+import com.template.tspringbootjava.dto.user.UserBulkResponseDto;
 import com.template.tspringbootjava.dto.user.UserCreateRequestDto;
 import com.template.tspringbootjava.dto.user.UserResponseDto;
 import com.template.tspringbootjava.dto.user.UserUpdateRequestDto;
+import com.template.tspringbootjava.service.UserExportLimiter;
+import com.template.tspringbootjava.service.UserJsonCache;
 import com.template.tspringbootjava.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping(path = "/api/v1/users")
 public class UserController {
     private final UserService userService;
+    private final UserETags userETags;
+    private final UserJsonCache userJsonCache;
+    private final UserExportLimiter userExportLimiter;
 
     /**
      * 사용자 생성
@@ -30,27 +46,147 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 사용자 일괄 생성
+     * POST /api/users/batch
+     * - 항목별 성공/실패 결과 반환 (일부 실패해도 200)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<UserBatchCreateResponseDto> createUsers(@Valid @RequestBody UserBatchCreateRequestDto request) {
+        UserBatchCreateResponseDto response = userService.createUsers(request.users());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 사용자 조회 (단건)
      * GET /api/users/{id}
+     * - ETag(id + version), Last-Modified(updatedAt) 포함
+     * - If-None-Match/If-Modified-Since 가 일치하면 본문 없이 304
+     * - 응답 JSON 캐시(userJson) hit: 직렬화된 JSON(Accept-Encoding: gzip 이면 압축된 JSON)을 그대로 응답
+     * - miss: DTO 조회("users" 캐시) 후 일반 직렬화 (응답 JSON 캐시는 UserService 의 DB 조회/수정 경로에서 저장)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserResponseDto> getUser(@PathVariable Long id) {
+    public ResponseEntity<?> getUser(@PathVariable Long id,
+                                     @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PreEncodedJson cached = userJsonCache.get(id);
+        if (cached != null) {
+            return preEncoded(cached, acceptsGzip(acceptEncoding));
+        }
+
         UserResponseDto response = userService.getUser(id);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        String etag = userETags.user(response.id(), response.version());
+        if (etag != null) {
+            builder.eTag(etag);
+        }
+        if (response.updatedAt() != null) {
+            builder.lastModified(response.updatedAt());
+        }
+        return builder.body(response);
+    }
+
+    private ResponseEntity<byte[]> preEncoded(PreEncodedJson json, boolean acceptsGzip) {
+        boolean gzip = acceptsGzip && json.gzip() != null;
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        String etag = userETags.user(json.id(), json.version());
+        if (etag != null) {
+            builder.eTag(gzip ? userETags.gzip(etag) : etag);
+        }
+        if (json.updatedAt() != null) {
+            builder.lastModified(json.updatedAt());
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(json.gzip());
+        }
+        return builder.body(json.identity());
+    }
+
+    /**
+     * Accept-Encoding 에 gzip 포함 여부 (q=0 제외)
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 사용자 일괄 조회 (id 목록)
+     * GET /api/users/bulk?ids=1,2,3
+     * - 최대 100개, 결과는 요청 순서 (없는 id는 found = false)
+     */
+    @GetMapping("/bulk")
+    public ResponseEntity<UserBulkResponseDto> getUsersByIds(@RequestParam List<Long> ids) {
+        UserBulkResponseDto response = userService.getUsersByIds(ids);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 모든 사용자 조회 (페이징)
      * GET /api/users?page=0&size=10&sort=createdAt,desc
+     * - totalElements는 기본적으로 추정치, exactCount=true 이면 정확한 개수 (count 쿼리 수행)
+     * - ETag(캐시 세대 + 페이지 파라미터), If-None-Match 가 일치하면 목록 조회 없이 304
      */
     @GetMapping
     public ResponseEntity<PageResponseDto<UserResponseDto>> getAllUsers(
-            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        PageResponseDto<UserResponseDto> response = userService.getAllUsers(pageable);
+            @PageableDefault(size = 10, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean exactCount,
+            WebRequest webRequest) {
+        // 일치 시 304 (ETag 헤더는 checkNotModified 에서 설정)
+        if (webRequest.checkNotModified(userETags.userList(pageable, exactCount))) {
+            return null;
+        }
+
+        PageResponseDto<UserResponseDto> response = userService.getAllUsers(pageable, exactCount);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 사용자 목록 조회 (cursor, keyset pagination)
+     * GET /api/users/cursor?size=20&cursor={nextCursor}
+     * - createdAt DESC, id DESC 순서, 전체 개수 미포함
+     * - size: 1 ~ 100
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<UserResponseDto>> getUsersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPageResponseDto<UserResponseDto> response = userService.getUsersByCursor(cursor, size);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 전체 사용자 export (NDJSON streaming)
+     * GET /api/users/export
+     * - 페이징/count 없이 전체 사용자를 한 줄에 한 명씩 전송
+     * - 응답 쓰기는 비동기 스레드에서 수행 (spring.mvc.async.request-timeout)
+     * - 동시 export 가 app.user-export.max-concurrent 이상이면 429 (전송이 끝나면 반환)
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        UserExportLimiter.Permit permit = userExportLimiter.acquire();
+        StreamingResponseBody body = out -> {
+            try (permit) {
+                userService.exportUsers(out);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"")
+                .body(body);
+    }
+
     /**
      * 사용자 수정
      * PUT /api/users/{id}
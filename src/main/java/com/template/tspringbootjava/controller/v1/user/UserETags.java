@@ -0,0 +1,48 @@
+package com.template.tspringbootjava.controller.v1.user;
+
+import com.template.tspringbootjava.cache.CacheGeneration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 API 조건부 GET(If-None-Match/If-Modified-Since)용 ETag
+ * - 단건: id + version(@Version) 기반 strong ETag (캐시된 UserResponseDto/PreEncodedJson 으로 계산, DB 조회 없음)
+ *   - updatedAt 은 사용하지 않음: DB(마이크로초)/캐시(밀리초)/수정 직후 엔티티(나노초) 정밀도가 달라 같은 버전도 ETag 가 달라짐
+ *   - gzip 으로 미리 압축된 응답은 별도 ETag (표현이 다르므로)
+ * - 목록: "userList" 캐시 세대 + 페이지 파라미터 기반 weak ETag
+ *   - 세대는 사용자 생성/수정/삭제 시 증가 (CacheGeneration)
+ *   - weak: 같은 세대에서도 추정 totalElements 는 달라질 수 있음 (의미상 동일한 응답)
+ */
+@Component
+@RequiredArgsConstructor
+public class UserETags {
+
+    private final CacheGeneration cacheGeneration;
+
+    /**
+     * 단건 ETag (version 이 없는 이전 캐시 값이면 null)
+     */
+    public String user(Long id, Long version) {
+        if (id == null || version == null) {
+            return null;
+        }
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * gzip 응답용 ETag
+     */
+    public String gzip(String etag) {
+        return etag.substring(0, etag.length() - 1) + "-gzip\"";
+    }
+
+    /**
+     * 목록 ETag
+     * - 목록 조회 전에 계산 (조회 중 세대가 바뀌면 이전 세대 ETag 가 되어 다음 요청에서 다시 200)
+     */
+    public String userList(Pageable pageable, boolean exactCount) {
+        String params = pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort() + ":" + exactCount;
+        return "W/\"" + cacheGeneration.current("userList") + "-" + Integer.toHexString(params.hashCode()) + "\"";
+    }
+}
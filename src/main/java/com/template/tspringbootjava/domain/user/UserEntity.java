@@ -3,6 +3,7 @@ package com.template.tspringbootjava.domain.user;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,15 +11,29 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.Instant;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Keyset pagination (UserRepository.findNextByCreatedAtDesc)
+        @Index(name = "idx_users_created_at_id", columnList = "created_at DESC, id DESC")
+})
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@DynamicUpdate // 변경된 컬럼만 UPDATE
 @EntityListeners(AuditingEntityListener.class)
 public class UserEntity {
+
+    // users.email UNIQUE 제약조건 이름 (PostgreSQL 기본 이름: {table}_{column}_key)
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "users_email_key";
+
+    /*
+     * SEQUENCE + pooled-lo (allocationSize = 50)
+     * - IDENTITY는 persist 시점마다 INSERT가 즉시 실행되어 JDBC batch insert 불가
+     * - DB 시퀀스 INCREMENT BY 값과 allocationSize가 같아야 함 (README 참고)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -45,6 +60,30 @@ public class UserEntity {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    // 낙관적 락 (UPDATE ... WHERE version = ?, 충돌 시 ObjectOptimisticLockingFailureException)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * 프로필 수정 (null 이거나 기존과 같은 값은 무시)
+     * - 변경 감지(Dirty Checking)로 변경된 컬럼만 UPDATE
+     *
+     * @return 변경 여부
+     */
+    public boolean updateProfile(String name, String phoneNumber) {
+        boolean changed = false;
+        if (name != null && !name.equals(this.name)) {
+            this.name = name;
+            changed = true;
+        }
+        if (phoneNumber != null && !phoneNumber.equals(this.phoneNumber)) {
+            this.phoneNumber = phoneNumber;
+            changed = true;
+        }
+        return changed;
+    }
+
     public void activate() {
         this.status = UserStatus.ACTIVE;
     }
@@ -0,0 +1,16 @@
+package com.template.tspringbootjava.dto.common;
+
+import java.util.List;
+
+/**
+ * Cursor(keyset) 기반 페이지 응답
+ * - 전체 개수(count) 조회 없음
+ * - nextCursor: 다음 페이지 요청 시 그대로 전달 (hasNext = false 이면 null)
+ */
+public record CursorPageResponseDto<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
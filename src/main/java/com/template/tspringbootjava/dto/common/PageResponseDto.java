@@ -1,6 +1,7 @@
 package com.template.tspringbootjava.dto.common;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -24,4 +25,32 @@ public record PageResponseDto<T>(
                 page.hasPrevious()
         );
     }
+
+    /**
+     * Slice + 별도로 구한 전체 개수 (추정치일 수 있음)
+     * - 마지막 페이지이면 실제 개수로 보정
+     * - 다음 페이지가 있으면 현재까지 조회된 개수 + 1 이상으로 보정
+     */
+    public static <T> PageResponseDto<T> from(Slice<T> slice, long totalElements) {
+        long offset = (long) slice.getNumber() * slice.getSize();
+        long total;
+        if (!slice.hasNext() && (slice.hasContent() || slice.isFirst())) {
+            total = offset + slice.getNumberOfElements();
+        } else if (slice.hasNext()) {
+            total = Math.max(totalElements, offset + slice.getNumberOfElements() + 1);
+        } else {
+            total = totalElements;
+        }
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+
+        return new PageResponseDto<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages,
+                slice.hasNext(),
+                slice.hasPrevious()
+        );
+    }
 }
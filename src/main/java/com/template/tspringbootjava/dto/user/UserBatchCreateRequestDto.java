@@ -0,0 +1,17 @@
+package com.template.tspringbootjava.dto.user;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 생성 요청
+ * - 각 항목의 검증은 항목별로 수행 (실패한 항목만 결과에 오류로 표시)
+ */
+public record UserBatchCreateRequestDto(
+        @NotEmpty(message = "사용자 목록은 필수입니다")
+        @Size(max = 5000, message = "한 번에 최대 5000명까지 생성할 수 있습니다")
+        List<UserCreateRequestDto> users
+) {
+}
@@ -0,0 +1,19 @@
+package com.template.tspringbootjava.dto.user;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 생성 결과
+ * - results는 요청 순서와 동일
+ */
+public record UserBatchCreateResponseDto(
+        int requested,
+        int created,
+        int failed,
+        List<UserBatchItemResultDto> results
+) {
+    public static UserBatchCreateResponseDto of(List<UserBatchItemResultDto> results) {
+        int created = (int) results.stream().filter(UserBatchItemResultDto::success).count();
+        return new UserBatchCreateResponseDto(results.size(), created, results.size() - created, results);
+    }
+}
@@ -0,0 +1,27 @@
+package com.template.tspringbootjava.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.template.tspringbootjava.exception.errorcode.ErrorCode;
+
+/**
+ * 사용자 일괄 생성 항목별 결과
+ * - index: 요청 목록에서의 위치 (0부터)
+ * - 성공: id, 실패: errorCode, message
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserBatchItemResultDto(
+        int index,
+        String email,
+        boolean success,
+        Long id,
+        String errorCode,
+        String message
+) {
+    public static UserBatchItemResultDto created(int index, String email, Long id) {
+        return new UserBatchItemResultDto(index, email, true, id, null, null);
+    }
+
+    public static UserBatchItemResultDto failed(int index, String email, ErrorCode errorCode, String message) {
+        return new UserBatchItemResultDto(index, email, false, null, errorCode.getCode(), message);
+    }
+}
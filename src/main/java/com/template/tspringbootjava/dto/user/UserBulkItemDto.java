@@ -0,0 +1,18 @@
+package com.template.tspringbootjava.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 사용자 일괄 조회 항목별 결과
+ * - found = false 이면 user 미포함
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserBulkItemDto(
+        Long id,
+        boolean found,
+        UserResponseDto user
+) {
+    public static UserBulkItemDto of(Long id, UserResponseDto user) {
+        return new UserBulkItemDto(id, user != null, user);
+    }
+}
@@ -0,0 +1,22 @@
+package com.template.tspringbootjava.dto.user;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 조회 결과
+ * - results: 요청한 id 순서와 동일
+ * - notFound: 존재하지 않는 id 목록
+ */
+public record UserBulkResponseDto(
+        List<UserBulkItemDto> results,
+        List<Long> notFound
+) {
+    public static UserBulkResponseDto of(List<UserBulkItemDto> results) {
+        List<Long> notFound = results.stream()
+                .filter(item -> !item.found())
+                .map(UserBulkItemDto::id)
+                .distinct()
+                .toList();
+        return new UserBulkResponseDto(results, notFound);
+    }
+}
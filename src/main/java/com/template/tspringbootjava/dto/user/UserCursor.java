@@ -0,0 +1,47 @@
+package com.template.tspringbootjava.dto.user;
+
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.exception.CustomException;
+import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 사용자 목록 cursor (정렬 기준: createdAt DESC, id DESC)
+ * - 외부에는 base64url 문자열로만 노출 (opaque)
+ * - 형식: [version][epochSecond 8 bytes][nano 4 bytes][id 8 bytes]
+ */
+public record UserCursor(Instant createdAt, Long id) {
+
+    private static final byte VERSION = 1;
+    private static final int SIZE = 1 + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public static UserCursor from(UserEntity entity) {
+        return new UserCursor(entity.getCreatedAt(), entity.getId());
+    }
+
+    public String encode() {
+        byte[] bytes = ByteBuffer.allocate(SIZE)
+                .put(VERSION)
+                .putLong(createdAt.getEpochSecond())
+                .putInt(createdAt.getNano())
+                .putLong(id)
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static UserCursor decode(String cursor) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getUrlDecoder().decode(cursor));
+            if (buffer.remaining() != SIZE || buffer.get() != VERSION) {
+                throw new IllegalArgumentException("size or version mismatch");
+            }
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new UserCursor(createdAt, buffer.getLong());
+        } catch (RuntimeException e) {
+            throw new CustomException(UserErrorCode.CURSOR_INVALID, "올바르지 않은 cursor 입니다: " + cursor, e);
+        }
+    }
+}
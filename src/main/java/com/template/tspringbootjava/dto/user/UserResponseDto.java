@@ -17,7 +17,8 @@ public record UserResponseDto(
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
         Instant createdAt,
         @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", timezone = "UTC")
-        Instant updatedAt
+        Instant updatedAt,
+        Long version // 낙관적 락 버전 (ETag)
 ) {
 
     public static UserResponseDto from(UserEntity entity) {
@@ -28,7 +29,8 @@ public record UserResponseDto(
                 entity.getPhoneNumber(),
                 entity.getStatus(),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion()
         );
     }
 }
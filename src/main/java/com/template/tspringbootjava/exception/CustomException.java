@@ -3,22 +3,28 @@ package com.template.tspringbootjava.exception;
 import com.template.tspringbootjava.exception.errorcode.ErrorCode;
 import lombok.Getter;
 
+/**
+ * 비즈니스 로직 예외
+ * - 예상된 오류(ErrorCode.isExpected(), 기본값 4xx)는 stack trace 를 생성하지 않음 (stackless)
+ *   - 잘못된 id, 이메일 중복 등 반복 요청에서 fillInStackTrace 비용 제거
+ *   - 원인 예외(cause)의 stack trace 는 그대로 유지
+ */
 @Getter
 public class CustomException extends RuntimeException {
     private final ErrorCode errorCode;
 
     public CustomException(ErrorCode errorCode, Throwable cause) {
-        super(cause);
+        super((cause != null) ? cause.toString() : null, cause, !errorCode.isExpected(), !errorCode.isExpected());
         this.errorCode = errorCode;
     }
 
     public CustomException(ErrorCode errorCode, String message) {
-        super(message);
+        super(message, null, !errorCode.isExpected(), !errorCode.isExpected());
         this.errorCode = errorCode;
     }
 
     public CustomException(ErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, !errorCode.isExpected(), !errorCode.isExpected());
         this.errorCode = errorCode;
     }
 }
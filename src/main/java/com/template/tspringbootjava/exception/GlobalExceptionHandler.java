@@ -1,14 +1,22 @@
 package com.template.tspringbootjava.exception;
 
+import com.template.tspringbootjava.domain.user.UserEntity;
 import com.template.tspringbootjava.exception.dto.CustomErrorResponse;
+import com.template.tspringbootjava.exception.errorcode.ErrorCode;
+import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
+import com.template.tspringbootjava.logging.LogSampler;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -20,15 +28,23 @@ import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.nio.file.AccessDeniedException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 전역 예외 처리
+ * - 클라이언트 오류(4xx)는 오류 종류별 sampling 하여 WARN 로그 (10초에 종류별 최대 10건, 생략 건수는 다음 로그에 포함)
+ * - 서버 오류(5xx)는 모두 ERROR 로그
+ */
 @Slf4j
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final LogSampler logSampler = new LogSampler(10, TimeUnit.SECONDS, 10);
+
     /*
      * TODO: 각 errorCode 항목을 각 앱과 Client 사이에 약속, 정의하여 사용하는 것을 권장.
      *       현재는 단순히 error status의 name을 사용 중.
@@ -39,15 +55,15 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex,
             HttpServletRequest request) {
 
-        List<CustomErrorResponse.ValidationError> errors = ex.getBindingResult()
-                .getFieldErrors()
-                .stream()
-                .map(error -> CustomErrorResponse.ValidationError.builder()
-                        .field(error.getField())
-                        .message(error.getDefaultMessage())
-                        .rejectedValue(error.getRejectedValue())
-                        .build())
-                .collect(Collectors.toList());
+        List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+        List<CustomErrorResponse.ValidationError> errors = new ArrayList<>(fieldErrors.size());
+        for (FieldError error : fieldErrors) {
+            errors.add(CustomErrorResponse.ValidationError.builder()
+                    .field(error.getField())
+                    .message(error.getDefaultMessage())
+                    .rejectedValue(error.getRejectedValue())
+                    .build());
+        }
 
         CustomErrorResponse response = CustomErrorResponse.builder()
                 .timestamp(Instant.now())
@@ -58,7 +74,7 @@ public class GlobalExceptionHandler {
                 .validationErrors(errors)
                 .build();
 
-        log.error("Validation error: {}", errors);
+        warnSampled("validation", "Validation error", errors);
         return ResponseEntity.badRequest().body(response);
     }
 
@@ -68,8 +84,7 @@ public class GlobalExceptionHandler {
             MethodArgumentTypeMismatchException ex,
             HttpServletRequest request) {
 
-        String message = String.format("'%s' 파라미터의 값 '%s'은(는) 타입이 올바르지 않습니다.",
-                ex.getName(), ex.getValue());
+        String message = "'" + ex.getName() + "' 파라미터의 값 '" + ex.getValue() + "'은(는) 타입이 올바르지 않습니다.";
 
         CustomErrorResponse response = CustomErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
@@ -78,7 +93,7 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        log.error("Type mismatch: {}", message);
+        warnSampled("type-mismatch", "Type mismatch", message);
         return ResponseEntity.badRequest().body(response);
     }
 
@@ -95,7 +110,7 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        log.error("Message not readable: {}", ex.getMessage());
+        warnSampled("message-not-readable", "Message not readable", ex.getMessage());
         return ResponseEntity.badRequest().body(response);
     }
 
@@ -105,8 +120,8 @@ public class GlobalExceptionHandler {
             HttpRequestMethodNotSupportedException ex,
             HttpServletRequest request) {
 
-        String message = String.format("'%s' 메서드는 지원하지 않습니다. 지원 메서드: %s",
-                ex.getMethod(), Arrays.toString(ex.getSupportedMethods()));
+        String message = "'" + ex.getMethod() + "' 메서드는 지원하지 않습니다. 지원 메서드: "
+                + Arrays.toString(ex.getSupportedMethods());
 
         CustomErrorResponse response = CustomErrorResponse.of(
                 HttpStatus.METHOD_NOT_ALLOWED,
@@ -115,7 +130,7 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        log.error("Method not supported: {}", message);
+        warnSampled("method-not-supported", "Method not supported", message);
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(response);
     }
 
@@ -125,8 +140,8 @@ public class GlobalExceptionHandler {
             HttpMediaTypeNotSupportedException ex,
             HttpServletRequest request) {
 
-        String message = String.format("'%s' 미디어 타입은 지원하지 않습니다. 지원 타입: %s",
-                ex.getContentType(), ex.getSupportedMediaTypes());
+        String message = "'" + ex.getContentType() + "' 미디어 타입은 지원하지 않습니다. 지원 타입: "
+                + ex.getSupportedMediaTypes();
 
         CustomErrorResponse response = CustomErrorResponse.of(
                 HttpStatus.UNSUPPORTED_MEDIA_TYPE,
@@ -135,7 +150,7 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        log.error("Media type not supported: {}", message);
+        warnSampled("media-type-not-supported", "Media type not supported", message);
         return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(response);
     }
 
@@ -145,7 +160,7 @@ public class GlobalExceptionHandler {
             MissingServletRequestParameterException ex,
             HttpServletRequest request) {
 
-        String message = String.format("필수 파라미터 '%s'이(가) 누락되었습니다.", ex.getParameterName());
+        String message = "필수 파라미터 '" + ex.getParameterName() + "'이(가) 누락되었습니다.";
 
         CustomErrorResponse response = CustomErrorResponse.of(
                 HttpStatus.BAD_REQUEST,
@@ -154,25 +169,26 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        log.error("Missing parameter: {}", message);
+        warnSampled("missing-parameter", "Missing parameter", message);
         return ResponseEntity.badRequest().body(response);
     }
 
     // 7. 비즈니스 로직 예외 (Custom Exception)
+    // - 예상된 오류(4xx)는 stack trace 없이 생성됨 (CustomException), 로그는 오류 코드별 sampling
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<CustomErrorResponse> handleCustomException(
             CustomException ex,
             HttpServletRequest request) {
 
-        CustomErrorResponse response = CustomErrorResponse.of(
-                ex.getErrorCode().getHttpStatus(),
-                ex.getErrorCode().getCode(),
-                ex.getMessage(),
-                request.getRequestURI()
-        );
+        ErrorCode errorCode = ex.getErrorCode();
+        CustomErrorResponse response = CustomErrorResponse.of(errorCode, ex.getMessage(), request.getRequestURI());
 
-        log.error("Custom exception: {}", ex.getMessage());
-        return ResponseEntity.status(ex.getErrorCode().getHttpStatus()).body(response);
+        if (errorCode.isExpected()) {
+            warnSampled(errorCode.getCode(), "Custom exception", ex.getMessage());
+        } else {
+            log.error("Custom exception: {}", ex.getMessage());
+        }
+        return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
     }
 
     // 8. 리소스를 찾을 수 없음
@@ -188,16 +204,25 @@ public class GlobalExceptionHandler {
                 request.getRequestURI()
         );
 
-        log.error("Resource not found: {}", request.getRequestURI());
+        warnSampled("resource-not-found", "Resource not found", request.getRequestURI());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
     }
 
     // 9. 데이터베이스 제약조건 위반
+    // - users.email unique 위반(사전 중복 확인 이후 동시 생성)은 EMAIL_CONFLICT, 예상된 오류로 처리
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<CustomErrorResponse> handleDataIntegrityViolation(
             DataIntegrityViolationException ex,
             HttpServletRequest request) {
 
+        if (UserEntity.EMAIL_UNIQUE_CONSTRAINT.equals(constraintName(ex))) {
+            ErrorCode errorCode = UserErrorCode.EMAIL_CONFLICT;
+            CustomErrorResponse response = CustomErrorResponse.of(errorCode, "이미 존재하는 이메일입니다.", request.getRequestURI());
+
+            warnSampled(errorCode.getCode(), "Email unique violation", request.getRequestURI());
+            return ResponseEntity.status(errorCode.getHttpStatus()).body(response);
+        }
+
         CustomErrorResponse response = CustomErrorResponse.of(
                 HttpStatus.CONFLICT,
                 HttpStatus.CONFLICT.name(),
@@ -209,7 +234,41 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
-    // 10. 접근 권한 없음 (Spring Security 사용 시)
+    // 10. 낙관적 락 충돌 (@Version, 동시 수정)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<CustomErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        CustomErrorResponse response = CustomErrorResponse.of(
+                HttpStatus.CONFLICT,
+                HttpStatus.CONFLICT.name(),
+                "다른 요청에 의해 데이터가 변경되었습니다. 다시 시도해주세요.",
+                request.getRequestURI()
+        );
+
+        log.error("Optimistic locking failure: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
+    // 11. DB connection 획득 실패 (connection pool 대기 시간 초과 등)
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<CustomErrorResponse> handleCannotCreateTransaction(
+            CannotCreateTransactionException ex,
+            HttpServletRequest request) {
+
+        CustomErrorResponse response = CustomErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                HttpStatus.SERVICE_UNAVAILABLE.name(),
+                "일시적으로 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                request.getRequestURI()
+        );
+
+        log.error("Cannot create transaction: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    // 12. 접근 권한 없음 (Spring Security 사용 시)
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<CustomErrorResponse> handleAccessDenied(
             AccessDeniedException ex,
@@ -239,4 +298,31 @@ public class GlobalExceptionHandler {
         log.error("Unexpected error: {}", e.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
+
+    /**
+     * 클라이언트 오류 로그 (종류별 sampling)
+     */
+    private void warnSampled(String key, String label, Object detail) {
+        long suppressed = logSampler.acquire(key);
+        if (suppressed == LogSampler.SKIP) {
+            return;
+        }
+        if (suppressed > 0) {
+            log.warn("{}: {} (similar errors suppressed: {})", label, detail, suppressed);
+        } else {
+            log.warn("{}: {}", label, detail);
+        }
+    }
+
+    /**
+     * 위반된 DB 제약조건 이름 (Hibernate 가 SQL 오류에서 추출, 없으면 null)
+     */
+    private static String constraintName(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getConstraintName();
+            }
+        }
+        return null;
+    }
 }
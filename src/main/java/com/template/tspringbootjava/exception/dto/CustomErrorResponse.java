@@ -2,6 +2,7 @@ package com.template.tspringbootjava.exception.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.template.tspringbootjava.exception.errorcode.ErrorCode;
 import lombok.Builder;
 import org.springframework.http.HttpStatus;
 
@@ -40,4 +41,15 @@ public record CustomErrorResponse(
                 null
         );
     }
-}
\ No newline at end of file
+
+    public static CustomErrorResponse of(ErrorCode errorCode, String message, String path) {
+        return new CustomErrorResponse(
+                Instant.now(),
+                errorCode.getHttpStatus().value(),
+                errorCode.getCode(),
+                message,
+                path,
+                null
+        );
+    }
+}
@@ -8,4 +8,12 @@ public interface ErrorCode {
     String getMessage();
 
     HttpStatus getHttpStatus();
+
+    /**
+     * 예상된 오류 여부 (기본값: 4xx)
+     * - true: CustomException 의 stack trace 를 생성하지 않음, 로그는 sampling (GlobalExceptionHandler)
+     */
+    default boolean isExpected() {
+        return getHttpStatus().is4xxClientError();
+    }
 }
@@ -11,6 +11,12 @@ public enum UserErrorCode implements ErrorCode {
     // 400
     EMAIL_TYPE_INVALID("USER_40001", HttpStatus.BAD_REQUEST,
             "EMAIL type is invalid."),
+    CURSOR_INVALID("USER_40002", HttpStatus.BAD_REQUEST,
+            "Cursor is invalid."),
+    BATCH_ITEM_INVALID("USER_40003", HttpStatus.BAD_REQUEST,
+            "Batch item is invalid."),
+    BULK_IDS_TOO_MANY("USER_40004", HttpStatus.BAD_REQUEST,
+            "Too many ids requested."),
 
     // 409
     EMAIL_CONFLICT("USER_40901", HttpStatus.CONFLICT,
@@ -18,7 +24,11 @@ public enum UserErrorCode implements ErrorCode {
 
     // 404
     USER_NOT_FOUND("USER_40401", HttpStatus.NOT_FOUND,
-            "User not found.");
+            "User not found."),
+
+    // 429
+    EXPORT_TOO_MANY("USER_42901", HttpStatus.TOO_MANY_REQUESTS,
+            "Too many concurrent exports.");
 
     private final String code;
     private final HttpStatus httpStatus;
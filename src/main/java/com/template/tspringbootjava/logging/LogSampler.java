@@ -0,0 +1,63 @@
+package com.template.tspringbootjava.logging;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 반복되는 로그 sampling
+ * - 사용: GlobalExceptionHandler (클라이언트 오류 로그), SamplingTurboFilter (hot path 로그)
+ * - key(오류 종류, 로그 메시지 형식 등)별로 window 동안 최대 maxPerWindow 건만 기록, 나머지는 건수만 집계
+ * - 다음 기록 시 그동안 생략된 건수를 함께 출력
+ * - key 는 오류 코드/메시지 형식 등 개수가 제한된 값만 사용 (요청 경로 등 사용 금지)
+ */
+public final class LogSampler {
+
+    public static final long SKIP = -1;
+
+    private final long windowNanos;
+    private final int maxPerWindow;
+    private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+    public LogSampler(long window, TimeUnit unit, int maxPerWindow) {
+        this.windowNanos = unit.toNanos(window);
+        this.maxPerWindow = maxPerWindow;
+    }
+
+    /**
+     * @return 기록할 경우 이전 기록 이후 생략된 건수, 생략할 경우 SKIP
+     */
+    public long acquire(String key) {
+        long now = System.nanoTime();
+        Window window = windows.computeIfAbsent(key, k -> new Window(now));
+
+        int count = window.count.incrementAndGet();
+        if (now - window.start >= windowNanos) {
+            synchronized (window) {
+                if (now - window.start >= windowNanos) {
+                    window.start = now;
+                    window.count.set(1);
+                    count = 1;
+                }
+            }
+        }
+
+        if (count <= maxPerWindow) {
+            return window.suppressed.getAndSet(0);
+        }
+        window.suppressed.incrementAndGet();
+        return SKIP;
+    }
+
+    private static final class Window {
+        private volatile long start;
+        private final AtomicInteger count = new AtomicInteger();
+        private final AtomicLong suppressed = new AtomicLong();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+}
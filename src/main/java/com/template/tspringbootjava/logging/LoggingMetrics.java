@@ -0,0 +1,70 @@
+package com.template.tspringbootjava.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * logback 비동기 appender / sampling 지표
+ * - logging.ringbuffer.depth, logging.ringbuffer.capacity, logging.ringbuffer.dropped (tag: appender)
+ * - logging.sampled.suppressed (tag: filter)
+ * - 설정 파일(logback-*.xml)에 RingBufferAppender/SamplingTurboFilter 가 없으면 등록하지 않음
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext context)) {
+            return;
+        }
+
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                if (appenders.next() instanceof RingBufferAppender appender) {
+                    bindRingBuffer(registry, appender);
+                }
+            }
+        }
+
+        int index = 0;
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof SamplingTurboFilter sampling) {
+                String name = (sampling.getName() != null) ? sampling.getName() : "sampling-" + index;
+                FunctionCounter.builder("logging.sampled.suppressed", sampling, SamplingTurboFilter::getSuppressedCount)
+                        .tag("filter", name)
+                        .description("sampling 으로 생략된 로그 수")
+                        .register(registry);
+            }
+            index++;
+        }
+    }
+
+    private void bindRingBuffer(MeterRegistry registry, RingBufferAppender appender) {
+        String name = appender.getName();
+        Gauge.builder("logging.ringbuffer.depth", appender, RingBufferAppender::getQueueDepth)
+                .tag("appender", name)
+                .description("기록 대기 중인 로그 event 수")
+                .register(registry);
+        Gauge.builder("logging.ringbuffer.capacity", appender, RingBufferAppender::getCapacity)
+                .tag("appender", name)
+                .register(registry);
+        FunctionCounter.builder("logging.ringbuffer.dropped", appender, RingBufferAppender::getDroppedCount)
+                .tag("appender", name)
+                .description("buffer 가 가득 차서 버린 로그 event 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,295 @@
+package com.template.tspringbootjava.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import ch.qos.logback.core.util.Duration;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 batch appender (AsyncAppender 대체)
+ * - lock-free ring buffer (bounded MPSC, slot 별 sequence): 요청 thread 는 slot 확보 후 event 저장만 수행
+ * - 전용 thread 1개가 최대 maxBatchSize 건씩 꺼내 연결된 appender 에 전달 (JSON 인코딩도 이 thread 에서 수행),
+ *   batch 마다 한 번 flush (연결된 FileAppender 는 immediateFlush = false, bufferSize 단위로 기록)
+ * - buffer 가 가득 찬 경우
+ *   - blockingLevel 이상(기본 WARN): 최대 maxBlockTime 동안 대기 후 버림
+ *   - 그 외: 즉시 버림
+ * - 지표: logging.ringbuffer.depth/capacity/dropped (LoggingMetrics)
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+
+    private int bufferSize = 8192;
+    private int maxBatchSize = 512;
+    private Level blockingLevel = Level.WARN;
+    private Duration maxBlockTime = Duration.buildByMilliseconds(100);
+    private Duration maxFlushTime = Duration.buildBySeconds(1);
+    private boolean includeCallerData = false;
+
+    // ring buffer: sequences[i] == pos 이면 쓰기 가능, pos + 1 이면 읽기 가능
+    private int mask;
+    private ILoggingEvent[] events;
+    private AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // 다음 쓰기 위치 (producer)
+    private volatile long head;                       // 다음 읽기 위치 (worker 만 변경)
+
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean workerParked;
+    private Thread worker;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No attached appenders found for RingBufferAppender [" + name + "]");
+            return;
+        }
+        if (bufferSize < 1 || maxBatchSize < 1) {
+            addError("Invalid bufferSize/maxBatchSize: " + bufferSize + "/" + maxBatchSize);
+            return;
+        }
+
+        int capacity = Integer.highestOneBit(bufferSize - 1) << 1; // 2의 거듭제곱으로 올림
+        capacity = Math.max(capacity, 2);
+        mask = capacity - 1;
+        events = new ILoggingEvent[capacity];
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        worker = new Thread(this::drainLoop, "logback-ringbuffer-" + name);
+        worker.setDaemon(true);
+        super.start();
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(worker);
+        try {
+            worker.join(maxFlushTime.getMilliseconds());
+            if (worker.isAlive()) {
+                addWarn("Max flush time (" + maxFlushTime + ") exceeded, " + getQueueDepth() + " events may be discarded");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 다른 thread 에서 기록되므로 MDC, 메시지 등 thread 의존 값을 미리 확정
+        event.prepareForDeferredProcessing();
+        if (includeCallerData) {
+            event.getCallerData();
+        }
+
+        if (offer(event)) {
+            wakeWorker();
+            return;
+        }
+        if (event.getLevel().isGreaterOrEqual(blockingLevel) && offerBlocking(event)) {
+            return;
+        }
+        dropped.incrementAndGet();
+    }
+
+    private boolean offer(ILoggingEvent event) {
+        long pos = tail.get();
+        for (;;) {
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    events[index] = event;
+                    sequences.set(index, pos + 1); // publish
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                return false; // full
+            } else {
+                pos = tail.get();
+            }
+        }
+    }
+
+    private boolean offerBlocking(ILoggingEvent event) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockTime.getMilliseconds());
+        while (isStarted() && System.nanoTime() < deadline) {
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+            if (offer(event)) {
+                wakeWorker();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void wakeWorker() {
+        if (workerParked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private void drainLoop() {
+        while (true) {
+            int drained = drainBatch();
+            if (drained > 0) {
+                flushAppenders();
+                continue;
+            }
+            if (!isStarted()) {
+                return; // 종료 요청 후 남은 event 모두 기록
+            }
+
+            workerParked = true;
+            if (isEmpty() && isStarted()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            workerParked = false;
+        }
+    }
+
+    private int drainBatch() {
+        int drained = 0;
+        long pos = head;
+        while (drained < maxBatchSize) {
+            int index = (int) (pos & mask);
+            if (sequences.get(index) != pos + 1) {
+                break; // empty (또는 producer 가 아직 저장 중)
+            }
+            ILoggingEvent event = events[index];
+            events[index] = null;
+            sequences.set(index, pos + mask + 1); // 다음 바퀴의 쓰기 위치로 반환
+            head = ++pos;
+
+            try {
+                appenders.appendLoopOnAppenders(event);
+            } catch (RuntimeException e) {
+                addError("Failed to append event", e);
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    private boolean isEmpty() {
+        long pos = head;
+        return sequences.get((int) (pos & mask)) != pos + 1;
+    }
+
+    private void flushAppenders() {
+        Iterator<Appender<ILoggingEvent>> iterator = appenders.iteratorForAppenders();
+        while (iterator.hasNext()) {
+            if (iterator.next() instanceof OutputStreamAppender<ILoggingEvent> appender && !appender.isImmediateFlush()) {
+                OutputStream out = appender.getOutputStream();
+                if (out == null) {
+                    continue;
+                }
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    addError("Failed to flush appender [" + appender.getName() + "]", e);
+                }
+            }
+        }
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getQueueDepth() {
+        return Math.max(0, tail.get() - head);
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void setBlockingLevel(String blockingLevel) {
+        this.blockingLevel = Level.toLevel(blockingLevel, Level.WARN);
+    }
+
+    public void setMaxBlockTime(Duration maxBlockTime) {
+        this.maxBlockTime = maxBlockTime;
+    }
+
+    public void setMaxFlushTime(Duration maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    public void setIncludeCallerData(boolean includeCallerData) {
+        this.includeCallerData = includeCallerData;
+    }
+
+    // AppenderAttachable (<appender-ref>)
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
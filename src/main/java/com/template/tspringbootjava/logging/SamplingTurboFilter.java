@@ -0,0 +1,99 @@
+package com.template.tspringbootjava.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import ch.qos.logback.core.util.Duration;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * hot path 로그 sampling (logback turbo filter, LoggingEvent 생성 전에 판단)
+ * - 대상: logger 이름이 <logger> 로 시작하고 level 이 <level> 이하인 로그 (WARN/ERROR 는 기본적으로 제외)
+ * - 메시지 형식(format)별로 interval 동안 최대 maxPerInterval 건만 기록 (LogSampler)
+ * - 생략된 건수: logging.sampled.suppressed (LoggingMetrics)
+ *
+ * <pre>
+ * &lt;turboFilter class="com.template.tspringbootjava.logging.SamplingTurboFilter"&gt;
+ *     &lt;logger&gt;com.template.tspringbootjava.service.UserService&lt;/logger&gt;
+ *     &lt;maxPerInterval&gt;10&lt;/maxPerInterval&gt;
+ *     &lt;interval&gt;1 second&lt;/interval&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private Level level = Level.INFO;
+    private int maxPerInterval = 10;
+    private Duration interval = Duration.buildBySeconds(1);
+
+    private LogSampler sampler;
+    private final AtomicLong suppressed = new AtomicLong();
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() 호출(format 없음), 비활성 level, 대상 외 level 은 판단하지 않음
+        if (format == null || !isStarted()
+                || level.levelInt > this.level.levelInt
+                || level.levelInt < logger.getEffectiveLevel().levelInt
+                || !matches(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        if (sampler.acquire(format) == LogSampler.SKIP) {
+            suppressed.incrementAndGet();
+            return FilterReply.DENY;
+        }
+        return FilterReply.NEUTRAL;
+    }
+
+    private boolean matches(String loggerName) {
+        for (String prefix : loggers) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        if (loggers.isEmpty()) {
+            addError("No <logger> configured for SamplingTurboFilter [" + getName() + "]");
+            return;
+        }
+        if (maxPerInterval < 1) {
+            addError("maxPerInterval must be positive: " + maxPerInterval);
+            return;
+        }
+        sampler = new LogSampler(interval.getMilliseconds(), TimeUnit.MILLISECONDS, maxPerInterval);
+        super.start();
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.get();
+    }
+
+    // <logger> 여러 개 지정 가능 (logback joran: addXxx)
+    public void addLogger(String logger) {
+        loggers.add(logger.trim());
+    }
+
+    public void setLevel(String level) {
+        this.level = Level.toLevel(level, Level.INFO);
+    }
+
+    public void setMaxPerInterval(int maxPerInterval) {
+        this.maxPerInterval = maxPerInterval;
+    }
+
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+}
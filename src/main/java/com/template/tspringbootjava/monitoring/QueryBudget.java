@@ -0,0 +1,95 @@
+package com.template.tspringbootjava.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API 요청별 DB 쿼리 지표 기록 및 예산 검사
+ * - http.server.requests.queries{method,uri}: 요청별 쿼리 수 (고정 bucket)
+ * - http.server.requests.db.time{method,uri}: 요청별 DB 실행 시간 합계
+ * - http.server.requests.query.budget.exceeded{method,uri}: 예산 초과 요청 수
+ * - (method, uri)별 meter는 최초 요청 시 등록 후 재사용
+ */
+@Slf4j
+public class QueryBudget {
+
+    private static final double[] QUERY_BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, Meters> meters = new ConcurrentHashMap<>();
+
+    public QueryBudget(QueryBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public QueryBudgetProperties properties() {
+        return properties;
+    }
+
+    /**
+     * 요청 종료 시 지표 기록
+     */
+    void record(RequestQueryStats stats, String method, String uri) {
+        Meters endpointMeters = meters(method, uri);
+        endpointMeters.queries().record(stats.count());
+        endpointMeters.time().record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 예산 초과 검사 (요청당 최초 1회)
+     *
+     * @param failAllowed false: 응답이 이미 전송된 경우 (action = fail 이어도 로그만 기록)
+     */
+    void check(RequestQueryStats stats, String method, String uri, boolean failAllowed) {
+        int maxQueries = properties.maxQueries(method, uri);
+        if (stats.count() <= maxQueries || !stats.markBudgetChecked()) {
+            return;
+        }
+
+        meters(method, uri).exceeded().increment();
+        String endpoint = method + " " + uri;
+        if (properties.action() == QueryBudgetProperties.Action.FAIL && failAllowed) {
+            throw new QueryBudgetExceededException(endpoint, stats.count(), maxQueries);
+        }
+        log.warn("Query budget exceeded: {} executed {} queries (max {}), db time {}ms",
+                endpoint, stats.count(), maxQueries, TimeUnit.NANOSECONDS.toMillis(stats.elapsedNanos()));
+    }
+
+    private Meters meters(String method, String uri) {
+        return meters.computeIfAbsent(method + " " + uri, key -> new Meters(
+                DistributionSummary.builder("http.server.requests.queries")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .baseUnit("queries")
+                        .serviceLevelObjectives(QUERY_BUCKETS)
+                        .description("API 요청별 DB 쿼리 수")
+                        .register(meterRegistry),
+                Timer.builder("http.server.requests.db.time")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .description("API 요청별 DB 실행 시간 합계")
+                        .register(meterRegistry),
+                Counter.builder("http.server.requests.query.budget.exceeded")
+                        .tag("method", method)
+                        .tag("uri", uri)
+                        .description("DB 쿼리 예산을 초과한 요청 수")
+                        .register(meterRegistry)
+        ));
+    }
+
+    private record Meters(
+            DistributionSummary queries,
+            Timer time,
+            Counter exceeded
+    ) {
+    }
+}
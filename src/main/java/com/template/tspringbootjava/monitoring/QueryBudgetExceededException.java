@@ -0,0 +1,11 @@
+package com.template.tspringbootjava.monitoring;
+
+/**
+ * API 요청의 DB 쿼리 수가 예산을 초과한 경우 (app.query-budget.action = fail)
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String endpoint, int queries, int maxQueries) {
+        super("Query budget exceeded: " + endpoint + " executed " + queries + " queries (max " + maxQueries + ")");
+    }
+}
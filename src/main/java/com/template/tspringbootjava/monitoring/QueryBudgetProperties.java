@@ -0,0 +1,39 @@
+package com.template.tspringbootjava.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * API 요청별 DB 쿼리 예산 설정
+ * - response-headers: X-Query-Count, X-Query-Time 응답 헤더 추가 (prd 제외 profile에서 사용)
+ * - default-max-queries: endpoint별 설정이 없는 경우의 최대 쿼리 수
+ * - endpoints: "{METHOD} {URL 패턴}" 별 최대 쿼리 수 (예: "[GET /api/v1/users/{id}]": 1)
+ * - action: 초과 시 동작 (log: WARN 로그, fail: 500 응답 - 테스트에서 N+1 검출용)
+ */
+@ConfigurationProperties(prefix = "app.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue("false")
+        boolean responseHeaders,
+        @DefaultValue("10")
+        int defaultMaxQueries,
+        @DefaultValue("log")
+        Action action,
+        Map<String, Integer> endpoints
+) {
+    public QueryBudgetProperties {
+        endpoints = (endpoints != null) ? Map.copyOf(endpoints) : Map.of();
+    }
+
+    public enum Action {
+        LOG,
+        FAIL
+    }
+
+    public int maxQueries(String method, String uri) {
+        return endpoints.getOrDefault(method + " " + uri, defaultMaxQueries);
+    }
+}
@@ -0,0 +1,51 @@
+package com.template.tspringbootjava.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * API 요청 단위 DB 쿼리 집계 범위 설정
+ * - 요청 시작 시 RequestQueryStats 생성, 종료 시 지표 기록 및 예산 검사 (QueryBudget)
+ * - 응답 헤더/응답 전 예산 검사는 QueryCountResponseAdvice 에서 처리
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH_PREFIX = "/api/";
+
+    private final QueryBudget queryBudget;
+
+    public QueryCountFilter(QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith(API_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.stop();
+            queryBudget.record(stats, request.getMethod(), uri(request));
+        }
+        // 본문 없는 응답 등 QueryCountResponseAdvice 를 거치지 않은 요청
+        queryBudget.check(stats, request.getMethod(), uri(request), !response.isCommitted());
+    }
+
+    static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return (pattern != null) ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,32 @@
+package com.template.tspringbootjava.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * JDBC 실행마다 현재 요청의 쿼리 수/실행 시간 집계 (datasource-proxy)
+ * - executeBatch 는 1회로 집계 (DB 왕복 기준)
+ */
+public class QueryCountListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryCountListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestQueryStats.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (stats != null && start != null) {
+            stats.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.template.tspringbootjava.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * 응답 본문 작성 직전 DB 쿼리 예산 검사 및 응답 헤더 추가
+ * - X-Query-Count: 요청에서 실행된 쿼리 수, X-Query-Time-Ms: DB 실행 시간 합계
+ * - app.query-budget.response-headers = true 인 경우만 헤더 추가 (prd 제외)
+ * - action = fail: 예산 초과 시 QueryBudgetExceededException (500)
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final QueryBudget queryBudget;
+
+    public QueryCountResponseAdvice(QueryBudget queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        QueryBudgetProperties properties = queryBudget.properties();
+        return properties.responseHeaders() || properties.action() == QueryBudgetProperties.Action.FAIL;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  MethodParameter returnType,
+                                  MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request,
+                                  ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        queryBudget.check(stats, httpRequest.getMethod(), QueryCountFilter.uri(httpRequest), true);
+
+        if (queryBudget.properties().responseHeaders()) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, Integer.toString(stats.count()));
+            response.getHeaders().set(QUERY_TIME_HEADER,
+                    String.format(Locale.ROOT, "%.3f", stats.elapsedNanos() / 1_000_000.0));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,59 @@
+package com.template.tspringbootjava.monitoring;
+
+/**
+ * 현재 요청의 DB 쿼리 수/실행 시간
+ * - QueryCountFilter가 요청 시작 시 생성, 종료 시 제거 (요청 스레드에서만 사용)
+ * - 요청 밖(백그라운드 캐시 갱신, 비동기 응답 스레드 등)의 쿼리는 집계하지 않음
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int count;
+    private long elapsedNanos;
+    private boolean budgetChecked;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 요청의 집계 (요청 밖이면 null)
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void record(long nanos) {
+        count++;
+        elapsedNanos += nanos;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 예산 초과 검사를 처음 호출한 경우만 true (응답 직전/요청 종료 시 중복 처리 방지)
+     */
+    boolean markBudgetChecked() {
+        if (budgetChecked) {
+            return false;
+        }
+        budgetChecked = true;
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package com.template.tspringbootjava.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * 가상 스레드 pinning 조회 (GET /actuator/virtualthreads)
+ */
+@Endpoint(id = "virtualthreads")
+public class VirtualThreadPinningEndpoint {
+
+    private final VirtualThreadPinningMonitor monitor;
+
+    public VirtualThreadPinningEndpoint(VirtualThreadPinningMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public VirtualThreadPinningReport pinning() {
+        return monitor.report();
+    }
+}
@@ -0,0 +1,146 @@
+package com.template.tspringbootjava.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 pinning 감지 (JFR 이벤트 스트리밍)
+ * - jdk.VirtualThreadPinned: synchronized 블록/native 호출 중 blocking 되어 carrier 스레드를 점유한 경우
+ *   (JDBC, Lettuce 등 라이브러리 내부의 synchronized 구간 확인용)
+ * - 위치(첫 번째 애플리케이션/라이브러리 frame)별 횟수, 최대 시간 집계 -> actuator /virtualthreads
+ * - 메트릭: jvm.threads.virtual.pinned (Timer)
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String OTHER_SITE = "(other)";
+    private static final String UNKNOWN_SITE = "(unknown)";
+
+    private final VirtualThreadPinningProperties properties;
+    private final Timer pinned;
+
+    private final ConcurrentMap<String, SiteStats> sites = new ConcurrentHashMap<>();
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final AtomicLong lastPinnedAt = new AtomicLong();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(VirtualThreadPinningProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 carrier 스레드에 고정(pinning)된 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        try {
+            RecordingStream recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                    .withThreshold(properties.threshold())
+                    .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+            this.stream = recordingStream;
+            log.info("VirtualThreadPinningMonitor - started (threshold: {})", properties.threshold());
+        } catch (RuntimeException e) {
+            // JFR 미지원 환경 등: 애플리케이션 동작에는 영향 없음
+            log.warn("VirtualThreadPinningMonitor - JFR stream not available: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recordingStream = this.stream;
+        this.stream = null;
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinned.record(duration);
+        pinnedEvents.increment();
+        lastPinnedAt.set(event.getEndTime().toEpochMilli());
+
+        String site = siteOf(event.getStackTrace());
+        // 위치 수 상한 (stack이 다양한 경우 메모리 증가 방지)
+        if (!sites.containsKey(site) && sites.size() >= properties.maxSites()) {
+            site = OTHER_SITE;
+        }
+        sites.computeIfAbsent(site, key -> new SiteStats()).record(duration);
+    }
+
+    /**
+     * pinning 위치: JDK 내부(java.*, jdk.*, sun.*)를 제외한 첫 번째 frame
+     */
+    private static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SITE;
+        }
+
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.")) {
+                continue;
+            }
+            return type + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+        }
+        return UNKNOWN_SITE;
+    }
+
+    public VirtualThreadPinningReport report() {
+        List<VirtualThreadPinningReport.Site> siteReports = sites.entrySet()
+                .stream()
+                .map(entry -> new VirtualThreadPinningReport.Site(
+                        entry.getKey(),
+                        entry.getValue().count.sum(),
+                        Duration.ofNanos(entry.getValue().maxNanos.get())))
+                .sorted(Comparator.comparingLong(VirtualThreadPinningReport.Site::count).reversed())
+                .toList();
+
+        long last = lastPinnedAt.get();
+        return new VirtualThreadPinningReport(
+                isRunning(),
+                properties.threshold(),
+                pinnedEvents.sum(),
+                (last > 0) ? Instant.ofEpochMilli(last) : null,
+                siteReports
+        );
+    }
+
+    private static final class SiteStats {
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(Duration duration) {
+            count.increment();
+            maxNanos.accumulateAndGet(duration.toNanos(), Math::max);
+        }
+    }
+}
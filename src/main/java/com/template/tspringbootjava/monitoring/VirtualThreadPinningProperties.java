@@ -0,0 +1,22 @@
+package com.template.tspringbootjava.monitoring;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 가상 스레드 pinning 감지 설정 (JFR jdk.VirtualThreadPinned)
+ * - threshold: 이 시간 이상 carrier 스레드에 고정된 경우만 기록
+ * - max-sites: 집계할 최대 pinning 위치(stack frame) 수
+ */
+@ConfigurationProperties(prefix = "app.virtual-threads.pinning")
+public record VirtualThreadPinningProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue("20ms")
+        Duration threshold,
+        @DefaultValue("50")
+        int maxSites
+) {
+}
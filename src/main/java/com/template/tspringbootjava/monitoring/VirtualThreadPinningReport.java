@@ -0,0 +1,34 @@
+package com.template.tspringbootjava.monitoring;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 가상 스레드 pinning 집계 (actuator /virtualthreads 응답)
+ *
+ * @param running      JFR 스트림 동작 여부
+ * @param threshold    기록 기준 시간
+ * @param pinnedEvents 누적 pinning 이벤트 수
+ * @param lastPinnedAt 마지막 pinning 시각 (없으면 null)
+ * @param sites        pinning 위치별 집계 (발생 횟수 내림차순)
+ */
+public record VirtualThreadPinningReport(
+        boolean running,
+        Duration threshold,
+        long pinnedEvents,
+        Instant lastPinnedAt,
+        List<Site> sites
+) {
+    /**
+     * @param frame       pinning을 유발한 첫 번째 애플리케이션/라이브러리 frame (java.*, jdk.* 제외)
+     * @param count       발생 횟수
+     * @param maxDuration 최대 pinning 시간
+     */
+    public record Site(
+            String frame,
+            long count,
+            Duration maxDuration
+    ) {
+    }
+}
@@ -1,11 +1,87 @@
 package com.template.tspringbootjava.repository;
 
 import com.template.tspringbootjava.domain.user.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByEmail(String email);
-    
+
+    /*
+     * 단일 DELETE 문으로 삭제 (조회 없이 삭제, 영향받은 행 수로 존재 여부 판단)
+     */
+    @Modifying
+    @Query("delete from UserEntity u where u.id = :id")
+    int deleteByIdReturningCount(@Param("id") Long id);
+
+    /*
+     * 이미 사용 중인 이메일 조회 (일괄 생성 시 중복 체크를 한 번의 IN 쿼리로 처리)
+     */
+    @Query("select u.email from UserEntity u where u.email in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /*
+     * 목록 조회 (count 쿼리 없음, size + 1건 조회로 다음 페이지 여부 판단)
+     */
+    Slice<UserEntity> findAllBy(Pageable pageable);
+
+    /*
+     * PostgreSQL 통계 기반 추정 행 수 (pg_stat_user_tables.n_live_tup)
+     * - 모든 노드의 insert/delete 가 트랜잭션 종료 후 통계에 반영됨 (ANALYZE 불필요, 약 1초 지연)
+     * - 통계 미수집/초기화 시 0 또는 null
+     */
+    @Query(value = "select n_live_tup from pg_stat_user_tables where relid = to_regclass('users')",
+            nativeQuery = true)
+    Long estimateCount();
+
+    /*
+     * Keyset(seek) pagination: created_at DESC, id DESC
+     * - 인덱스: idx_users_created_at_id (created_at DESC, id DESC)
+     * - offset 스캔/count 쿼리 없음 (limit은 Pageable의 size만 사용)
+     */
+    @Query("select u from UserEntity u order by u.createdAt desc, u.id desc")
+    List<UserEntity> findFirstByCreatedAtDesc(Pageable limit);
+
+    @Query("select u from UserEntity u "
+            + "where (u.createdAt, u.id) < (:createdAt, :id) "
+            + "order by u.createdAt desc, u.id desc")
+    List<UserEntity> findNextByCreatedAtDesc(@Param("createdAt") Instant createdAt,
+                                             @Param("id") Long id,
+                                             Pageable limit);
+
+    /*
+     * 전체 사용자 스트리밍 조회 (export)
+     * - forward-only JDBC cursor, fetch size 단위로 조회 (PostgreSQL은 트랜잭션 안에서만 cursor 사용)
+     * - read-only: dirty checking 용 스냅샷 미생성
+     * - 호출 측에서 Stream close 필요 (try-with-resources)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select u from UserEntity u order by u.id")
+    Stream<UserEntity> streamAllBy();
+
+    /*
+     * 전체 이메일 스트리밍 조회 (UserEmailFilter 생성)
+     * - 이메일 컬럼만 조회, 엔티티/영속성 컨텍스트 미사용
+     * - 호출 측 트랜잭션 안에서 사용, Stream close 필요
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.email from UserEntity u")
+    Stream<String> streamAllEmails();
 }
@@ -0,0 +1,129 @@
+package com.template.tspringbootjava.service;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Scalable Bloom filter (thread-safe, 삭제 미지원)
+ * - mightContain = false: 확실히 없음, true: 있을 수 있음 (오탐률 fpp)
+ * - segment 가 가득 차면 2배 크기, 절반 오탐률의 segment 추가 (전체 오탐률 < fpp * 2)
+ * - hash: 문자 단위 FNV-1a 64 + fmix64 (문자열 인코딩/할당 없음), k 개 index 는 double hashing
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    public ScalableBloomFilter(long initialCapacity, double fpp) {
+        segments.add(new Segment(Math.max(1, initialCapacity), fpp));
+    }
+
+    public void put(CharSequence value) {
+        long hash = hash(value);
+        long h1 = fmix64(hash);
+        long h2 = fmix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        Segment segment = segments.getLast();
+        segment.put(h1, h2);
+        if (segment.count.incrementAndGet() >= segment.capacity) {
+            grow(segment);
+        }
+    }
+
+    public boolean mightContain(CharSequence value) {
+        long hash = hash(value);
+        long h1 = fmix64(hash);
+        long h2 = fmix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (Segment segment : segments) {
+            if (segment.mightContain(h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 추가된 값 수 (중복 포함)
+     */
+    public long count() {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.count.get();
+        }
+        return count;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    private synchronized void grow(Segment full) {
+        if (segments.getLast() != full) {
+            return;
+        }
+        segments.add(new Segment(full.capacity * GROWTH, full.fpp * TIGHTENING));
+    }
+
+    private static long hash(CharSequence value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static final class Segment {
+        private final long capacity;
+        private final double fpp;
+        private final long bitSize;
+        private final int hashes;
+        private final AtomicLongArray words;
+        private final AtomicLong count = new AtomicLong();
+
+        private Segment(long capacity, double fpp) {
+            this.capacity = capacity;
+            this.fpp = fpp;
+            // m = -n * ln(p) / (ln 2)^2, k = m / n * ln 2
+            long bits = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+            this.bitSize = Math.max(Long.SIZE, Math.min(bits, (long) Integer.MAX_VALUE * Long.SIZE));
+            this.hashes = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+            this.words = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+        }
+
+        private void put(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitSize);
+                long mask = 1L << index;
+                int word = (int) (index >>> 6);
+                if ((words.get(word) & mask) == 0) {
+                    words.getAndAccumulate(word, mask, (current, bit) -> current | bit);
+                }
+            }
+        }
+
+        private boolean mightContain(long h1, long h2) {
+            for (int i = 0; i < hashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitSize);
+                if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.template.tspringbootjava.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 사용자 목록 전체 개수(totalElements) 설정
+ * - max-staleness: 추정 개수 재조회 주기 (그 사이에는 생성/삭제 건수만 반영)
+ * - exact-threshold: 추정치가 이 값 미만이면 정확한 count(*) 사용 (작은 테이블은 count 비용이 작음)
+ */
+@ConfigurationProperties(prefix = "app.user-count")
+public record UserCountProperties(
+        @DefaultValue("30s")
+        Duration maxStaleness,
+        @DefaultValue("10000")
+        long exactThreshold
+) {
+}
@@ -0,0 +1,106 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 수 추정 (목록 조회의 count(*) 대체)
+ * - PostgreSQL 통계(pg_stat_user_tables.n_live_tup)를 max-staleness 주기로 조회
+ * - 조회 사이의 생성/삭제는 커밋 이후 로컬 카운터(delta)로 반영
+ *   - delta 는 이 노드의 생성/삭제만 집계
+ *   - 다른 노드의 생성/삭제는 다음 재조회 시점에 반영 (최대 max-staleness 만큼 오차)
+ * - 재조회 값이 이전과 같으면 delta 유지 (통계에 아직 반영되지 않은 생성/삭제를 버리지 않음)
+ */
+@Slf4j
+public class UserCountProvider {
+
+    private final UserRepository userRepository;
+    private final UserCountProperties properties;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong delta = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    public UserCountProvider(UserRepository userRepository, UserCountProperties properties) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * 추정 사용자 수
+     * - 재조회가 필요하면 한 요청만 DB 조회, 나머지는 이전 값 사용 (최초 조회는 대기)
+     */
+    public long approximate() {
+        Snapshot current = snapshot;
+        if (current == null || current.isOlderThan(properties.maxStaleness().toNanos())) {
+            current = refresh(current);
+        }
+        return Math.max(0L, current.count() + delta.get());
+    }
+
+    /**
+     * 생성/삭제 건수 반영 (트랜잭션 진행 중이면 커밋 이후에 반영)
+     */
+    public void adjustAfterCommit(long diff) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delta.addAndGet(diff);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delta.addAndGet(diff);
+            }
+        });
+    }
+
+    private Snapshot refresh(Snapshot stale) {
+        if (!refreshLock.tryLock()) {
+            if (stale != null) {
+                return stale;
+            }
+            refreshLock.lock();
+        }
+
+        try {
+            // 대기 중에 다른 요청이 이미 갱신한 경우
+            Snapshot current = snapshot;
+            if (current != null && current != stale) {
+                return current;
+            }
+
+            long recorded = delta.get();
+            Snapshot loaded = load();
+            if (current == null || loaded.exact() || loaded.count() != current.count()) {
+                // 새 값에 반영된 것으로 보고 조회 전까지의 건수만 제거 (조회 중 커밋된 건수는 유지)
+                delta.addAndGet(-recorded);
+            }
+            snapshot = loaded;
+            log.debug("UserCountProvider - refreshed: {}, delta: {}", loaded.count(), delta.get());
+            return loaded;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot load() {
+        Long estimate = userRepository.estimateCount();
+        // 통계 미수집(0, null) 또는 작은 테이블은 정확한 count 사용
+        if (estimate == null || estimate < properties.exactThreshold()) {
+            return new Snapshot(userRepository.count(), true, System.nanoTime());
+        }
+        return new Snapshot(estimate, false, System.nanoTime());
+    }
+
+    private record Snapshot(long count, boolean exact, long loadedAtNanos) {
+        boolean isOlderThan(long maxStalenessNanos) {
+            return System.nanoTime() - loadedAtNanos > maxStalenessNanos;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 이메일 중복 확인 사전 검사 (in-memory Bloom filter)
+ * - 확실히 없는 이메일은 existsByEmail 조회 생략 (놓친 중복은 users.email unique 제약조건 -> 409 EMAIL_CONFLICT)
+ * - 시작 후 백그라운드에서 테이블 전체 이메일로 생성, 완료 전(또는 비활성화 시)에는 항상 조회
+ * - 생성 커밋 후 추가, 삭제는 커밋 후 건수만 집계 (Bloom filter 는 삭제 불가, 삭제된 이메일은 오탐으로만 남음)
+ *   - 삭제 건수가 rebuild-deleted-ratio 를 넘으면 백그라운드에서 다시 생성
+ * - 다른 노드에서 생성된 이메일은 반영되지 않음 (제약조건으로 중복 방지)
+ */
+@Slf4j
+public class UserEmailFilter {
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserEmailFilterProperties properties;
+
+    private volatile ScalableBloomFilter filter;   // null: 생성 전
+    private volatile ScalableBloomFilter building; // 생성 중인 filter (생성 중 추가된 이메일도 반영)
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong deletedSinceBuild = new AtomicLong();
+
+    private final Counter absent;
+    private final Counter maybe;
+    private final Counter notReady;
+
+    public UserEmailFilter(UserRepository userRepository,
+                           TransactionTemplate readOnlyTransaction,
+                           UserEmailFilterProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.properties = properties;
+
+        this.absent = checkCounter(meterRegistry, "absent");
+        this.maybe = checkCounter(meterRegistry, "maybe");
+        this.notReady = checkCounter(meterRegistry, "not_ready");
+        Gauge.builder("user.email.filter.size", this, f -> (f.filter != null) ? f.filter.count() : 0)
+                .description("Bloom filter 에 추가된 이메일 수")
+                .register(meterRegistry);
+    }
+
+    private Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("user.email.filter.checks")
+                .tag("result", result)
+                .description("이메일 중복 사전 검사 결과 (absent: 조회 생략)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 사용 중일 수 있는 이메일인지 (false: 확실히 없음)
+     */
+    public boolean mightExist(String email) {
+        ScalableBloomFilter current = filter;
+        if (current == null) {
+            notReady.increment();
+            return true;
+        }
+        if (current.mightContain(email)) {
+            maybe.increment();
+            return true;
+        }
+        absent.increment();
+        return false;
+    }
+
+    /**
+     * 생성된 이메일 추가 (커밋 후, 트랜잭션 밖에서는 즉시)
+     * - 커밋 전에 추가하면 재생성 조회(커밋된 행만 보임) 시작 전 추가분이 새 filter 에서 빠질 수 있음
+     */
+    public void addAfterCommit(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emails.forEach(this::add);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emails.forEach(UserEmailFilter.this::add);
+            }
+        });
+    }
+
+    /**
+     * 커밋된 이메일 추가
+     * - 현재 filter + 생성 중인 filter 모두 추가, 추가 중 재생성 시작/교체가 겹치면 새 filter 에도 추가
+     */
+    void add(String email) {
+        ScalableBloomFilter current;
+        ScalableBloomFilter next;
+        do {
+            current = filter;
+            next = building;
+            if (current != null) {
+                current.put(email);
+            }
+            if (next != null) {
+                next.put(email);
+            }
+        } while (current != filter || next != building);
+    }
+
+    /**
+     * 삭제 건수 반영 (트랜잭션 진행 중이면 커밋 이후에 반영)
+     * - 롤백된 삭제로 재생성을 시작하지 않음
+     */
+    public void recordDeletedAfterCommit(long count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordDeleted(count);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordDeleted(count);
+            }
+        });
+    }
+
+    private void recordDeleted(long count) {
+        ScalableBloomFilter current = filter;
+        long deleted = deletedSinceBuild.addAndGet(count);
+        if (current != null && deleted > current.count() * properties.rebuildDeletedRatio()) {
+            rebuildAsync();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (properties.enabled()) {
+            rebuildAsync();
+        }
+    }
+
+    private void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("user-email-filter").start(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.warn("UserEmailFilter - rebuild failed: {}", e.getMessage());
+            } finally {
+                building = null;
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        ScalableBloomFilter next = new ScalableBloomFilter(properties.expectedInsertions(), properties.fpp());
+        building = next; // 조회 시작 전에 설정 (조회 중 생성된 이메일 포함)
+        long deletedBefore = deletedSinceBuild.get();
+
+        Long loaded = readOnlyTransaction.execute(status -> {
+            long count = 0;
+            try (Stream<String> emails = userRepository.streamAllEmails()) {
+                for (String email : (Iterable<String>) emails::iterator) {
+                    next.put(email);
+                    count++;
+                }
+            }
+            return count;
+        });
+
+        filter = next;
+        deletedSinceBuild.addAndGet(-deletedBefore);
+        log.info("UserEmailFilter - built: {} emails, {}ms", loaded, (System.nanoTime() - started) / 1_000_000);
+    }
+}
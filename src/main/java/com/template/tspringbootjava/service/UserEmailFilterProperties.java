@@ -0,0 +1,23 @@
+package com.template.tspringbootjava.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 이메일 중복 확인용 Bloom filter 설정
+ * - expected-insertions: 첫 segment 크기 (초과 시 segment 추가)
+ * - fpp: 오탐률 (있다고 판단했지만 실제로 없는 비율, 이 경우만 existsByEmail 조회)
+ * - rebuild-deleted-ratio: 삭제 건수가 filter 크기의 이 비율을 넘으면 테이블에서 다시 생성
+ */
+@ConfigurationProperties(prefix = "app.user-email-filter")
+public record UserEmailFilterProperties(
+        @DefaultValue("true")
+        boolean enabled,
+        @DefaultValue("100000")
+        long expectedInsertions,
+        @DefaultValue("0.01")
+        double fpp,
+        @DefaultValue("0.2")
+        double rebuildDeletedRatio
+) {
+}
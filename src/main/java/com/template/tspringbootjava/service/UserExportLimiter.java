@@ -0,0 +1,49 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.exception.CustomException;
+import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 export 동시 실행 제한
+ * - export 는 전송이 끝날 때까지 읽기 전용 트랜잭션과 DB connection 을 점유 (느린 클라이언트면 최대 async request-timeout)
+ * - 동시 export 가 max-concurrent 이상이면 대기하지 않고 429 (다른 API 가 사용할 connection 확보)
+ * - 응답 전송 전(요청 스레드)에 acquire, 전송이 끝나면(성공/실패) Permit.close 로 반환
+ */
+public class UserExportLimiter {
+
+    private final Semaphore permits;
+
+    public UserExportLimiter(UserExportProperties properties) {
+        this.permits = new Semaphore(properties.maxConcurrent());
+    }
+
+    public Permit acquire() {
+        if (!permits.tryAcquire()) {
+            throw new CustomException(UserErrorCode.EXPORT_TOO_MANY,
+                    "concurrent exports exceeded: available=" + permits.availablePermits());
+        }
+        return new Permit(permits);
+    }
+
+    /**
+     * export 실행 권한 (close 는 한 번만 반환)
+     */
+    public static final class Permit implements AutoCloseable {
+        private final Semaphore permits;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
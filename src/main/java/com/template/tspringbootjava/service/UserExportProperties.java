@@ -0,0 +1,15 @@
+package com.template.tspringbootjava.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 export 설정
+ * - max-concurrent: 동시 export 최대 수 (export 는 전송이 끝날 때까지 DB connection 을 점유, connection pool 보다 작게 설정)
+ */
+@ConfigurationProperties(prefix = "app.user-export")
+public record UserExportProperties(
+        @DefaultValue("2")
+        int maxConcurrent
+) {
+}
@@ -0,0 +1,112 @@
+package com.template.tspringbootjava.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.template.tspringbootjava.cache.PreEncodedJson;
+import com.template.tspringbootjava.cache.PreEncodedJsonProperties;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 단건 API 응답 JSON 캐시 ("userJson")
+ * - hit: 직렬화된 JSON(필요 시 gzip)을 응답에 그대로 사용 (DTO 역직렬화/재직렬화 없음)
+ * - miss: 기존 경로("users" 캐시 + MVC 직렬화)로 응답 (Controller 에서는 저장하지 않음)
+ * - 저장은 "users" 캐시를 쓰는 경로에서만 (UserService)
+ *   - 조회 loader(DB 조회): putIfAbsent, 로딩 중 수정으로 저장된 값을 덮어쓰지 않음
+ *   - 수정(@CachePut 과 같은 시점, 커밋 후): put
+ *   - 삭제: "users" 캐시와 함께 삭제
+ *   - Controller 에서 저장하면 조회 후 커밋된 수정/삭제 이전 값이 다시 저장될 수 있음
+ * - Redis 오류 시 miss 로 처리 (저장 실패는 무시)
+ */
+@Slf4j
+@Component
+public class UserJsonCache {
+
+    public static final String CACHE_NAME = "userJson";
+
+    private final CacheManager cacheManager;
+    private final ObjectWriter writer;
+    private final PreEncodedJsonProperties properties;
+
+    public UserJsonCache(CacheManager cacheManager,
+                         ObjectMapper objectMapper,
+                         PreEncodedJsonProperties properties) {
+        this.cacheManager = cacheManager;
+        this.writer = objectMapper.writerFor(UserResponseDto.class);
+        this.properties = properties;
+    }
+
+    /**
+     * 캐시된 JSON (miss 또는 미사용 시 null)
+     */
+    public PreEncodedJson get(Long id) {
+        Cache cache = cache();
+        if (cache == null) {
+            return null;
+        }
+
+        try {
+            return cache.get(id, PreEncodedJson.class);
+        } catch (RuntimeException e) {
+            log.warn("UserJsonCache - get failed: {}, {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * API 응답 형식으로 직렬화하여 저장 (수정 경로, 트랜잭션 진행 중이면 커밋 후 저장)
+     */
+    public void put(UserResponseDto user) {
+        Cache cache = cache();
+        if (cache == null || user.id() == null) {
+            return;
+        }
+
+        try {
+            cache.put(user.id(), encode(user));
+        } catch (IOException | RuntimeException e) {
+            log.warn("UserJsonCache - put failed: {}, {}", user.id(), e.getMessage());
+        }
+    }
+
+    /**
+     * 없는 경우에만 저장 (조회 loader 경로)
+     */
+    public void putIfAbsent(UserResponseDto user) {
+        Cache cache = cache();
+        if (cache == null || user.id() == null) {
+            return;
+        }
+
+        try {
+            cache.putIfAbsent(user.id(), encode(user));
+        } catch (IOException | RuntimeException e) {
+            log.warn("UserJsonCache - putIfAbsent failed: {}, {}", user.id(), e.getMessage());
+        }
+    }
+
+    PreEncodedJson encode(UserResponseDto user) throws IOException {
+        byte[] identity = writer.writeValueAsBytes(user);
+        byte[] gzip = (identity.length >= properties.gzipThreshold().toBytes()) ? gzip(identity) : null;
+        return new PreEncodedJson(user.id(), user.version(), user.updatedAt(), identity, gzip);
+    }
+
+    private Cache cache() {
+        return properties.enabled() ? cacheManager.getCache(CACHE_NAME) : null;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
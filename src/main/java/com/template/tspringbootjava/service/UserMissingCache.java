@@ -0,0 +1,104 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.cache.BulkCacheAccessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 존재하지 않는 사용자 id 캐시 (negative cache, "userMissing")
+ * - 조회 결과가 없는 id 를 짧은 TTL 동안 기록, 반복 조회(id 스캔 등)는 DB 조회 없이 404
+ * - key: id, 값: MISSING(tombstone) | CREATED(생성 marker)
+ * - 사용자 생성 커밋 후 생성된 id 에 CREATED 기록 (다른 id 의 tombstone 은 유지)
+ *   - tombstone 은 key 가 없을 때만 기록하므로, 조회와 생성이 겹쳐 커밋 이후에 기록을 시도해도 CREATED 가 유지됨
+ *   - 커밋 전에 기록된 tombstone 은 CREATED 로 덮어씀
+ * - Redis 오류 시 negative cache 미사용 (DB 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserMissingCache {
+
+    public static final String CACHE_NAME = "userMissing";
+
+    private static final Boolean MISSING = Boolean.TRUE;
+    private static final Boolean CREATED = Boolean.FALSE;
+
+    private final CacheManager cacheManager;
+    private final BulkCacheAccessor bulkCacheAccessor;
+
+    public boolean isMissing(Long id) {
+        Cache cache = cache();
+        if (cache == null) {
+            return false;
+        }
+
+        try {
+            Cache.ValueWrapper value = cache.get(id);
+            return value != null && MISSING.equals(value.get());
+        } catch (RuntimeException e) {
+            log.warn("UserMissingCache - get failed: {}, {}", id, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * tombstone 기록
+     * - putIfAbsent: 트랜잭션 커밋을 기다리지 않고 바로 저장 (조회 실패 예외로 트랜잭션이 롤백되어도 저장)
+     * - 조회 이후 생성이 커밋되어 CREATED 가 있으면 기록하지 않음
+     */
+    public void markMissing(Long id) {
+        Cache cache = cache();
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            cache.putIfAbsent(id, MISSING);
+        } catch (RuntimeException e) {
+            log.warn("UserMissingCache - put failed: {}, {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * 생성된 id 에 CREATED 기록 (트랜잭션 진행 중이면 커밋 이후에 기록)
+     * - 커밋 전에 기록하면, 커밋 전 조회가 없는 id 로 판단할 수 있음
+     * - 일괄 생성은 Redis pipeline 한 번 (BulkCacheAccessor)
+     */
+    public void markCreatedAfterCommit(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            markCreated(ids);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markCreated(ids);
+            }
+        });
+    }
+
+    private void markCreated(Collection<Long> ids) {
+        Map<Long, Boolean> values = new LinkedHashMap<>();
+        for (Long id : ids) {
+            values.put(id, CREATED);
+        }
+        bulkCacheAccessor.putAll(CACHE_NAME, values);
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE_NAME);
+    }
+}
@@ -1,14 +1,30 @@
 package com.template.tspringbootjava.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.template.tspringbootjava.cache.BulkCacheAccessor;
+import com.template.tspringbootjava.cache.CacheGeneration;
 import com.template.tspringbootjava.domain.user.UserEntity;
 import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.dto.common.CursorPageResponseDto;
 import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserBatchCreateResponseDto;
+import com.template.tspringbootjava.dto.user.UserBatchItemResultDto;
+import com.template.tspringbootjava.dto.user.UserBulkItemDto;
+import com.template.tspringbootjava.dto.user.UserBulkResponseDto;
 import com.template.tspringbootjava.dto.user.UserCreateRequestDto;
+import com.template.tspringbootjava.dto.user.UserCursor;
 import com.template.tspringbootjava.dto.user.UserResponseDto;
 import com.template.tspringbootjava.dto.user.UserUpdateRequestDto;
 import com.template.tspringbootjava.exception.CustomException;
 import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
 import com.template.tspringbootjava.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -16,26 +32,64 @@ import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed("user.service") // public 메서드별 실행 시간 (tag: class, method, exception)
 public class UserService {
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int EXPORT_FLUSH_ROWS = 500;
+    // spring.jpa.properties.hibernate.jdbc.batch_size 와 동일하게 유지
+    private static final int JDBC_BATCH_SIZE = 50;
+    private static final int EMAIL_LOOKUP_CHUNK_SIZE = 1000;
+    private static final int MAX_BULK_IDS = 100;
+
     private final UserRepository userRepository;
+    private final CacheGeneration cacheGeneration;
+    private final BulkCacheAccessor bulkCacheAccessor;
+    private final UserCountProvider userCountProvider;
+    private final UserMissingCache userMissingCache;
+    private final UserJsonCache userJsonCache;
+    private final UserEmailFilter userEmailFilter;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     /**
      * 사용자 생성
-     * 목록에 대한 캐시 삭제
+     * 목록 캐시 세대 증가 (이전 세대 목록 캐시 무효화)
+     * 커밋 후 새 id 를 negative cache 에 생성됨으로 기록 (tombstone 대체)
+     * - 이메일 중복 체크: Bloom filter 에 없으면 조회 생략 (동시 생성 등 놓친 중복은 unique 제약조건 -> 409 EMAIL_CONFLICT)
      */
     @Transactional
-    @CacheEvict(value = "userList", allEntries = true)
     public UserResponseDto createUser(UserCreateRequestDto request) {
         // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.email())) {
+        if (userEmailFilter.mightExist(request.email()) && userRepository.existsByEmail(request.email())) {
             throw new CustomException(UserErrorCode.EMAIL_CONFLICT, ("이미 존재하는 이메일입니다: " + request.email()));
         }
 
@@ -49,14 +103,139 @@ public class UserService {
                 .build();
 
         UserEntity savedUser = userRepository.save(user);
+        userEmailFilter.addAfterCommit(List.of(savedUser.getEmail()));
+        cacheGeneration.bumpAfterCommit("userList");
+        userMissingCache.markCreatedAfterCommit(List.of(savedUser.getId()));
+        userCountProvider.adjustAfterCommit(1);
         return UserResponseDto.from(savedUser);
     }
 
+    /**
+     * 사용자 일괄 생성
+     * - 항목별 검증 → 요청 내 중복 이메일 확인 → 기존 이메일은 IN 쿼리(청크 단위)로 한 번에 확인
+     * - JDBC batch insert (SEQUENCE id), JDBC_BATCH_SIZE 건마다 flush/clear
+     * - 목록 캐시 세대는 배치당 한 번만 증가
+     * - 검증/중복으로 실패한 항목은 결과에 오류로 표시하고 나머지는 생성
+     */
+    @Transactional
+    public UserBatchCreateResponseDto createUsers(List<UserCreateRequestDto> requests) {
+        UserBatchItemResultDto[] results = new UserBatchItemResultDto[requests.size()];
+
+        // 1. 항목별 검증, 요청 내 중복 이메일 (먼저 나온 항목만 생성 대상)
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateRequestDto request = requests.get(i);
+            if (request == null) {
+                results[i] = UserBatchItemResultDto.failed(i, null, UserErrorCode.BATCH_ITEM_INVALID, "요청 항목이 비어 있습니다");
+                continue;
+            }
+
+            Set<ConstraintViolation<UserCreateRequestDto>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results[i] = UserBatchItemResultDto.failed(i, request.email(), UserErrorCode.BATCH_ITEM_INVALID, message);
+                continue;
+            }
+
+            if (candidates.putIfAbsent(request.email(), i) != null) {
+                results[i] = UserBatchItemResultDto.failed(i, request.email(), UserErrorCode.EMAIL_CONFLICT,
+                        "요청 내 중복된 이메일입니다: " + request.email());
+            }
+        }
+
+        // 2. 기존 이메일 확인 (set-based)
+        Set<String> existingEmails = findExistingEmails(new ArrayList<>(candidates.keySet()));
+
+        // 3. batch insert
+        List<UserEntity> pending = new ArrayList<>(JDBC_BATCH_SIZE);
+        int created = 0;
+        for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+            int index = candidate.getValue();
+            String email = candidate.getKey();
+            if (existingEmails.contains(email)) {
+                results[index] = UserBatchItemResultDto.failed(index, email, UserErrorCode.EMAIL_CONFLICT,
+                        "이미 존재하는 이메일입니다: " + email);
+                continue;
+            }
+
+            UserCreateRequestDto request = requests.get(index);
+            UserEntity user = UserEntity.builder()
+                    .email(request.email())
+                    .password(request.password()) // TODO: 암호화 필요 (BCrypt 등)
+                    .name(request.name())
+                    .phoneNumber(request.phoneNumber())
+                    .status(UserStatus.ACTIVE)
+                    .build();
+            pending.add(user);
+
+            if (pending.size() == JDBC_BATCH_SIZE) {
+                created += flushBatch(pending, candidates, results);
+            }
+        }
+        created += flushBatch(pending, candidates, results);
+
+        if (created > 0) {
+            cacheGeneration.bumpAfterCommit("userList");
+            userEmailFilter.addAfterCommit(Arrays.stream(results)
+                    .filter(UserBatchItemResultDto::success)
+                    .map(UserBatchItemResultDto::email)
+                    .toList());
+            userMissingCache.markCreatedAfterCommit(Arrays.stream(results)
+                    .filter(UserBatchItemResultDto::success)
+                    .map(UserBatchItemResultDto::id)
+                    .toList());
+            userCountProvider.adjustAfterCommit(created);
+        }
+        log.info("createUsers: requested={}, created={}", requests.size(), created);
+        return UserBatchCreateResponseDto.of(Arrays.asList(results));
+    }
+
+    private Set<String> findExistingEmails(List<String> emails) {
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK_SIZE, emails.size()));
+            existing.addAll(userRepository.findExistingEmails(chunk));
+        }
+        return existing;
+    }
+
+    /**
+     * 대기 중인 엔티티 INSERT (JDBC batch) 후 영속성 컨텍스트 비움
+     * - id는 persist 시점에 시퀀스로 할당되므로 flush 전에 결과 생성 가능
+     */
+    private int flushBatch(List<UserEntity> pending,
+                           Map<String, Integer> candidates,
+                           UserBatchItemResultDto[] results) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        userRepository.saveAll(pending);
+        for (UserEntity user : pending) {
+            int index = candidates.get(user.getEmail());
+            results[index] = UserBatchItemResultDto.created(index, user.getEmail(), user.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        int flushed = pending.size();
+        pending.clear();
+        return flushed;
+    }
+
     /**
      * 사용자 조회 (단건)
      * 캐시에 저장
+     * - sync: 캐시 miss 시 같은 id에 대해 하나의 요청만 DB 조회 (SingleFlightCache)
+     * - 조회 결과가 없으면 예외를 던지므로 null은 캐싱되지 않음
+     * - 없는 id 는 negative cache(UserMissingCache)에 기록, 이후 조회는 DB 조회 없이 404
+     *   - 조회와 겹친 생성이 먼저 커밋된 경우 기록하지 않음 (생성 marker 유지)
+     * - 응답 JSON 캐시("userJson")도 함께 저장 (이미 있으면 유지)
      */
-    @Cacheable(value = "users", key = "#id", unless = "#result == null")
+    @Cacheable(value = "users", key = "#id", sync = true)
     public UserResponseDto getUser(Long id) {
         log.info("getUser: {} (Cache Miss)", id);
 
@@ -66,76 +245,197 @@ public class UserService {
 //        } catch (InterruptedException e) {
 //            return null;
 //        }
-        UserEntity user = userRepository.findById(id)
-                .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id));
-        return UserResponseDto.from(user);
+        if (userMissingCache.isMissing(id)) {
+            throw new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id);
+        }
+
+        UserEntity user = userRepository.findById(id).orElse(null);
+        if (user == null) {
+            userMissingCache.markMissing(id);
+            throw new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id);
+        }
+        UserResponseDto response = UserResponseDto.from(user);
+        userJsonCache.putIfAbsent(response);
+        return response;
+    }
+
+    /**
+     * 사용자 일괄 조회 (id 목록)
+     * - "users" 캐시를 한 번에 조회 (L1 -> Redis MGET), miss는 findAllById 한 번으로 조회
+     * - 조회한 값은 Redis pipeline으로 캐시에 저장 (이미 있는 key는 덮어쓰지 않음)
+     * - 결과는 요청한 id 순서, 존재하지 않는 id는 found = false
+     */
+    public UserBulkResponseDto getUsersByIds(List<Long> ids) {
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new CustomException(UserErrorCode.BULK_IDS_TOO_MANY,
+                    "한 번에 최대 " + MAX_BULK_IDS + "개까지 조회할 수 있습니다: " + ids.size());
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        distinctIds.remove(null);
+
+        Map<Long, UserResponseDto> users = new HashMap<>(
+                bulkCacheAccessor.getAll("users", distinctIds, UserResponseDto.class));
+        int cacheHits = users.size();
+
+        List<Long> misses = distinctIds.stream()
+                .filter(id -> !users.containsKey(id))
+                .toList();
+        if (!misses.isEmpty()) {
+            long start = System.nanoTime();
+            Map<Long, UserResponseDto> loaded = userRepository.findAllById(misses)
+                    .stream()
+                    .map(UserResponseDto::from)
+                    .collect(Collectors.toMap(UserResponseDto::id, Function.identity()));
+            long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            bulkCacheAccessor.putAllIfAbsent("users", loaded, loadMillis);
+            users.putAll(loaded);
+        }
+        log.info("getUsersByIds: requested={}, cacheHit={}, loaded={}", distinctIds.size(), cacheHits, misses.size());
+
+        List<UserBulkItemDto> results = ids.stream()
+                .filter(Objects::nonNull)
+                .map(id -> UserBulkItemDto.of(id, users.get(id)))
+                .toList();
+        return UserBulkResponseDto.of(results);
     }
 
     /**
      * 모든 사용자 조회 (페이징)
      * 리스트 조회 캐싱
+     * - key: "{세대}:{page}:{size}:{sort}:{exactCount}" (userListKeyGenerator)
+     * - sync: 캐시 miss 시 같은 페이지에 대해 하나의 요청만 DB 조회 (SingleFlightCache)
+     * - exactCount = false: count(*) 대신 추정 개수 사용 (UserCountProvider)
      */
     @Cacheable(value = "userList",
-            key = "#page + ':' + #size + ':' + #sort", // or key = "#pageable.pageNumber",
-            condition = "#page < 5" // First 5 pages
+            keyGenerator = "userListKeyGenerator",
+            condition = "#pageable.pageNumber < 5", // First 5 pages
+            sync = true
     )
-    public PageResponseDto<UserResponseDto> getAllUsers(Pageable pageable) {
+    public PageResponseDto<UserResponseDto> getAllUsers(Pageable pageable, boolean exactCount) {
         log.info("getAllUsers: (Cache Miss)");
 
-        Page<UserEntity> page = userRepository.findAll(pageable);
+        if (exactCount) {
+            Page<UserEntity> page = userRepository.findAll(pageable);
+
+            // Page<UserEntity> -> Page<UserResponseDto>
+            Page<UserResponseDto> mapped = page.map(UserResponseDto::from);
+
+            // Page -> PageResponseDto
+            return PageResponseDto.from(mapped);
+        }
+
+        Slice<UserResponseDto> slice = userRepository.findAllBy(pageable).map(UserResponseDto::from);
+        return PageResponseDto.from(slice, userCountProvider.approximate());
+    }
+
+    /**
+     * 사용자 목록 조회 (cursor, keyset pagination)
+     * - createdAt DESC, id DESC 순서
+     * - offset 스캔/count 쿼리 없음 (깊은 페이지도 일정한 비용)
+     * - size + 1건을 조회하여 다음 페이지 존재 여부 판단
+     */
+    public CursorPageResponseDto<UserResponseDto> getUsersByCursor(String cursor, int requestedSize) {
+        int size = Math.min(Math.max(requestedSize, 1), MAX_CURSOR_PAGE_SIZE);
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<UserEntity> users;
+        if (cursor == null || cursor.isBlank()) {
+            users = userRepository.findFirstByCreatedAtDesc(limit);
+        } else {
+            UserCursor after = UserCursor.decode(cursor);
+            users = userRepository.findNextByCreatedAtDesc(after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = users.size() > size;
+        List<UserEntity> content = hasNext ? users.subList(0, size) : users;
+        String nextCursor = hasNext ? UserCursor.from(content.get(content.size() - 1)).encode() : null;
+
+        return new CursorPageResponseDto<>(
+                content.stream().map(UserResponseDto::from).toList(),
+                size,
+                hasNext,
+                nextCursor
+        );
+    }
+
+    /**
+     * 전체 사용자 export (NDJSON, 한 줄에 사용자 한 명)
+     * - DB cursor로 fetch size 단위 조회, 한 건씩 변환/출력 후 영속성 컨텍스트에서 분리 (힙 사용량 일정)
+     * - 출력 스트림 쓰기가 블로킹되면 DB 조회도 멈춤 (느린 클라이언트에 대한 backpressure)
+     * - EXPORT_FLUSH_ROWS 건마다 flush
+     */
+    public long exportUsers(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(UserResponseDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+
+        long rows = 0;
+        JsonGenerator generator = writer.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
 
-        // Page<UserEntity> -> Page<UserResponseDto>
-        Page<UserResponseDto> mapped = page.map(UserResponseDto::from);
+        try (Stream<UserEntity> users = userRepository.streamAllBy()) {
+            Iterator<UserEntity> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserEntity user = iterator.next();
+                writer.writeValue(generator, UserResponseDto.from(user));
+                entityManager.detach(user);
+
+                if (++rows % EXPORT_FLUSH_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+            if (rows > 0) {
+                generator.writeRaw('\n');
+            }
+        } finally {
+            generator.close();
+        }
 
-        // Page -> PageResponseDto
-        return PageResponseDto.from(mapped);
+        log.info("exportUsers: {} rows", rows);
+        return rows;
     }
 
     /**
      * 사용자 정보 수정
-     * 캐시 갱신 + 리스트 캐시 무효화
+     * 캐시 갱신 + 목록 캐시 세대 증가
+     * - 변경 감지로 변경된 컬럼만 UPDATE (@DynamicUpdate), 변경이 없으면 UPDATE 없음
+     * - @Version 낙관적 락: 동시 수정 시 409 (ObjectOptimisticLockingFailureException)
+     * - 응답의 updatedAt/캐시 값에 반영되도록 DTO 생성 전에 flush
+     * - 응답 JSON 캐시("userJson")도 커밋 후 갱신 (@CachePut 과 같은 시점)
      */
     @Transactional
-    @Caching(
-            put = @CachePut(value = "users", key = "#id"),
-            evict = @CacheEvict(value = "userList", allEntries = true)
-    )
+    @CachePut(value = "users", key = "#id")
     public UserResponseDto updateUser(Long id, UserUpdateRequestDto request) {
         UserEntity user = userRepository.findById(id)
                 .orElseThrow(() -> new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id));
 
-        // 변경 감지(Dirty Checking)를 통한 업데이트
-        // UserEntity에 업데이트 메서드 추가 필요
-        if (request.name() != null) {
-            user = UserEntity.builder()
-                    .id(user.getId())
-                    .email(user.getEmail())
-                    .password(user.getPassword())
-                    .name(request.name())
-                    .phoneNumber(request.phoneNumber() != null ? request.phoneNumber() : user.getPhoneNumber())
-                    .status(user.getStatus())
-                    .createdAt(user.getCreatedAt())
-                    .updatedAt(user.getUpdatedAt())
-                    .build();
-            user = userRepository.save(user);
+        if (user.updateProfile(request.name(), request.phoneNumber())) {
+            userRepository.flush();
+            cacheGeneration.bumpAfterCommit("userList");
         }
-
-        return UserResponseDto.from(user);
+        UserResponseDto response = UserResponseDto.from(user);
+        userJsonCache.put(response);
+        return response;
     }
 
     /**
      * 사용자 삭제
-     * 모든 관련 캐시 무효화
+     * 단건 캐시(users, userJson) 삭제 + 목록 캐시 세대 증가
+     * - 단일 DELETE 문, 삭제된 행이 없으면 404
      */
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "users", key = "#id"),
-            @CacheEvict(value = "userList", allEntries = true)
+            @CacheEvict(value = "userJson", key = "#id")
     })
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
+        if (userRepository.deleteByIdReturningCount(id) == 0) {
             throw new CustomException(UserErrorCode.USER_NOT_FOUND, "사용자를 찾을 수 없습니다: " + id);
         }
-        userRepository.deleteById(id);
+        cacheGeneration.bumpAfterCommit("userList");
+        userCountProvider.adjustAfterCommit(-1);
+        userEmailFilter.recordDeletedAfterCommit(1);
     }
 }
@@ -1,9 +1,9 @@
 package com.template.tspringbootjava;
 
+import com.template.tspringbootjava.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@IntegrationTest
 class TSpringbootJavaApplicationTests {
 
     @Test
@@ -0,0 +1,83 @@
+package com.template.tspringbootjava.cache;
+
+import com.template.tspringbootjava.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 세대 로컬 사본 테스트
+ * - 재동기화는 로컬 값을 줄이지 않음 (조회와 겹친 증가 유지)
+ * - Redis key 삭제/초기화 시 로컬 값으로 복구, 이후 증가는 로컬 값보다 큼
+ */
+@IntegrationTest
+class CacheGenerationTest {
+
+    @Autowired
+    private CacheGeneration cacheGeneration;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private String cacheName;
+    private String redisKey;
+
+    @BeforeEach
+    void setUp() {
+        cacheName = "generation-test-" + UUID.randomUUID();
+        redisKey = "cache:generation:" + cacheName;
+    }
+
+    @Test
+    void resyncDoesNotMoveBackwards() {
+        cacheGeneration.bump(cacheName);
+        cacheGeneration.bump(cacheName);
+        assertThat(cacheGeneration.current(cacheName)).isEqualTo(2);
+
+        // 증가 전에 읽은 값으로 재동기화한 것과 같은 상태
+        stringRedisTemplate.opsForValue().set(redisKey, "1");
+        cacheGeneration.resync(cacheName);
+
+        assertThat(cacheGeneration.current(cacheName)).isEqualTo(2);
+        assertThat(stringRedisTemplate.opsForValue().get(redisKey)).isEqualTo("2");
+    }
+
+    @Test
+    void generationFromOtherNodeIsKeptOnResync() {
+        assertThat(cacheGeneration.current(cacheName)).isZero();
+        stringRedisTemplate.opsForValue().set(redisKey, "5");
+        cacheGeneration.onInvalidation("cache:generation:" + cacheName, "5");
+
+        cacheGeneration.resync(cacheName);
+        assertThat(cacheGeneration.current(cacheName)).isEqualTo(5);
+    }
+
+    @Test
+    void deletedKeyIsRestored() {
+        cacheGeneration.bump(cacheName);
+        cacheGeneration.bump(cacheName);
+        stringRedisTemplate.delete(redisKey);
+
+        cacheGeneration.resync(cacheName);
+        assertThat(cacheGeneration.current(cacheName)).isEqualTo(2);
+        assertThat(stringRedisTemplate.opsForValue().get(redisKey)).isEqualTo("2");
+    }
+
+    @Test
+    void bumpAfterKeyResetAdvancesLocalGeneration() {
+        cacheGeneration.bump(cacheName);
+        cacheGeneration.bump(cacheName);
+        cacheGeneration.bump(cacheName);
+        stringRedisTemplate.delete(redisKey);
+
+        // INCR -> 1 (로컬 3 이하): 4 로 복구
+        cacheGeneration.bump(cacheName);
+        assertThat(cacheGeneration.current(cacheName)).isEqualTo(4);
+        assertThat(stringRedisTemplate.opsForValue().get(redisKey)).isEqualTo("4");
+    }
+}
@@ -0,0 +1,177 @@
+package com.template.tspringbootjava.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 노드 간 L1 무효화 테스트 (Embedded Redis)
+ * - 같은 Redis를 바라보는 2개의 버스(node A, node B)로 다중 노드 환경을 구성
+ */
+class CacheInvalidationBusTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private final List<RedisMessageListenerContainer> containers = new CopyOnWriteArrayList<>();
+    private final List<CacheInvalidationBus> buses = new CopyOnWriteArrayList<>();
+
+    private CacheInvalidationProperties properties;
+    private CacheInvalidationBus nodeA;
+    private CacheInvalidationBus nodeB;
+    private final List<String> receivedByA = new CopyOnWriteArrayList<>();
+    private final List<String> receivedByB = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheInvalidationProperties(true, "cache:invalidation:test", 16, 256, Duration.ofMillis(20));
+
+        nodeA = createBus();
+        nodeB = createBus();
+        nodeA.addListener((cacheName, key) -> receivedByA.add(cacheName + "::" + key));
+        nodeB.addListener((cacheName, key) -> receivedByB.add(cacheName + "::" + key));
+        nodeA.start();
+        nodeB.start();
+
+        // 구독이 완료될 때까지 대기
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            nodeA.publish("warmup", "ping");
+            assertThat(receivedByB).isNotEmpty();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        buses.forEach(CacheInvalidationBus::stop);
+        containers.forEach(container -> {
+            container.stop();
+            try {
+                container.destroy();
+            } catch (Exception ignored) {
+            }
+        });
+    }
+
+    private CacheInvalidationBus createBus() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        CacheInvalidationBus bus = new CacheInvalidationBus(
+                new StringRedisTemplate(connectionFactory),
+                container,
+                new ObjectMapper(),
+                properties,
+                new SimpleMeterRegistry()
+        );
+        buses.add(bus);
+        return bus;
+    }
+
+    private static List<String> received(List<String> received, String cacheName) {
+        return received.stream()
+                .filter(entry -> entry.startsWith(cacheName + "::"))
+                .toList();
+    }
+
+    @Test
+    void keyInvalidationIsAppliedOnOtherNodeOnly() {
+        nodeA.publish("users", "1");
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(received(receivedByB, "users")).containsExactly("users::1"));
+        assertThat(received(receivedByA, "users")).isEmpty();
+    }
+
+    @Test
+    void invalidationsAreCoalescedIntoBatch() {
+        for (int i = 0; i < 10; i++) {
+            nodeA.publish("users", String.valueOf(i));
+        }
+        nodeA.publish("users", "0"); // 중복
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(received(receivedByB, "users")).hasSize(10));
+    }
+
+    @Test
+    void clearSupersedesKeyInvalidationsInSameBatch() {
+        nodeA.publish("userList", "a");
+        nodeA.publishClear("userList");
+        nodeA.publish("userList", "b");
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(received(receivedByB, "userList")).containsExactly("userList::null"));
+    }
+
+    @Test
+    void queueOverflowFallsBackToCacheClear() {
+        // flusher 시작 전에 queue-capacity(16) 초과 -> 캐시 전체 무효화로 대체
+        CacheInvalidationBus nodeC = createBus();
+        for (int i = 0; i < 100; i++) {
+            nodeC.publish("users", String.valueOf(i));
+        }
+        nodeC.start();
+
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(received(receivedByB, "users")).containsExactly("users::null"));
+    }
+
+    @Test
+    void generationBumpIsPropagatedToOtherNode() {
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        CacheGeneration generationA = new CacheGeneration(redisTemplate,
+                new StaticListableBeanFactory(Map.of("bus", nodeA)).getBeanProvider(CacheInvalidationBus.class));
+        CacheGeneration generationB = new CacheGeneration(redisTemplate,
+                new StaticListableBeanFactory(Map.of("bus", nodeB)).getBeanProvider(CacheInvalidationBus.class));
+        long before = generationB.current("generationTest");
+
+        generationA.bump("generationTest");
+
+        // 재동기화 주기(5초)보다 짧은 시간 안에 반영 -> pub/sub 전파
+        assertThat(generationA.current("generationTest")).isEqualTo(before + 1);
+        await().atMost(Duration.ofSeconds(2))
+                .untilAsserted(() -> assertThat(generationB.current("generationTest")).isEqualTo(before + 1));
+    }
+}
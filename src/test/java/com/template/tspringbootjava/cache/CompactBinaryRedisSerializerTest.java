@@ -0,0 +1,91 @@
+package com.template.tspringbootjava.cache;
+
+import com.template.tspringbootjava.config.RedisConfig;
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.dto.common.PageResponseDto;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactBinaryRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json =
+            new GenericJackson2JsonRedisSerializer(new RedisConfig().redisObjectMapper());
+    private final CompactBinaryRedisSerializer serializer = new CompactBinaryRedisSerializer(json);
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00.123Z");
+
+    @Test
+    void userRoundTrip() {
+        UserResponseDto user = new UserResponseDto(
+                42L, "user@example.com", "홍길동", "010-1234-5678", UserStatus.SUSPENDED, NOW, NOW.plusSeconds(1), 3L);
+
+        assertThat(serializer.deserialize(serializer.serialize(user))).isEqualTo(user);
+    }
+
+    @Test
+    void userWithNullFieldsRoundTrip() {
+        UserResponseDto user = new UserResponseDto(null, "user@example.com", null, null, null, NOW, null, null);
+
+        assertThat(serializer.deserialize(serializer.serialize(user))).isEqualTo(user);
+    }
+
+    @Test
+    void userPageRoundTripIsSmallerThanJson() {
+        PageResponseDto<UserResponseDto> page = new PageResponseDto<>(
+                List.of(
+                        new UserResponseDto(1L, "a@example.com", "A", "010-1111-2222", UserStatus.ACTIVE, NOW, NOW, 0L),
+                        new UserResponseDto(2L, "b@example.com", "B", "010-3333-4444", UserStatus.INACTIVE, NOW, NOW, 1L)
+                ),
+                3, 2, 1_000_000L, 500_000, true, true
+        );
+
+        byte[] binary = serializer.serialize(page);
+
+        assertThat(serializer.deserialize(binary)).isEqualTo(page);
+        assertThat(binary.length).isLessThan(json.serialize(page).length);
+    }
+
+    @Test
+    void pageOf100UsersIsLessThanHalfOfJson() {
+        // CacheValueSerializerBenchmark(page100) 와 같은 구성
+        List<UserResponseDto> content = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            Instant time = NOW.plusSeconds(id);
+            content.add(new UserResponseDto(
+                    id, "user" + id + "@example.com", "홍길동" + id, "010-1234-5678", UserStatus.ACTIVE, time, time, 0L));
+        }
+        PageResponseDto<UserResponseDto> page = new PageResponseDto<>(content, 0, 100, 10_000, 100, true, false);
+
+        byte[] binary = serializer.serialize(page);
+        byte[] jsonBytes = json.serialize(page);
+
+        assertThat(serializer.deserialize(binary)).isEqualTo(page);
+        assertThat(binary.length).isLessThan(jsonBytes.length / 2);
+    }
+
+    @Test
+    void legacyJsonEntryIsReadThroughFallback() {
+        UserResponseDto user = new UserResponseDto(
+                7L, "legacy@example.com", "Legacy", "010-0000-0000", UserStatus.ACTIVE, NOW, NOW, 0L);
+        PageResponseDto<UserResponseDto> page = new PageResponseDto<>(List.of(user), 0, 10, 1, 1, false, false);
+
+        assertThat(serializer.deserialize(json.serialize(page))).isEqualTo(page);
+    }
+
+    @Test
+    void unsupportedTypeIsWrittenWithFallback() {
+        String value = "plain value";
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes).isEqualTo(json.serialize(value));
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+}
@@ -0,0 +1,117 @@
+package com.template.tspringbootjava.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 백그라운드 갱신과 put/evict 경합 테스트
+ * - 갱신 로딩이 수정 커밋 전 데이터를 읽은 뒤 @CachePut/@CacheEvict 가 실행되어도 갱신 결과가 덮어쓰지 않음
+ */
+class RefreshAheadCacheTest {
+
+    private static final RefreshAheadProperties.CacheSpec SPEC =
+            new RefreshAheadProperties.CacheSpec(Duration.ofMinutes(1), Duration.ofSeconds(15), Duration.ofSeconds(30), 1.0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentMapCache remote = new ConcurrentMapCache("users");
+    private final RefreshAheadCache cache = new RefreshAheadCache(remote, SPEC, executor, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private void seedExpired(Object key, Object value) {
+        // soft 만료된 엔트리 -> 다음 조회에서 이전 값으로 응답하고 갱신 시작
+        remote.put(key, new RefreshableValue(value, System.currentTimeMillis() - 1, 1));
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    void refreshDoesNotOverwriteConcurrentPut() throws Exception {
+        seedExpired(1L, "v1");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 갱신 로딩: 수정 커밋 전의 행(v1)을 읽음
+        assertThat(cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "v1-reloaded";
+        })).isEqualTo("v1");
+        loading.await();
+
+        // updateUser 커밋 후 @CachePut
+        cache.put(1L, "v2");
+        release.countDown();
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> counter("cache.refresh.discarded") == 1);
+        assertThat(cache.get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    void refreshDoesNotResurrectEvictedEntry() throws Exception {
+        seedExpired(1L, "v1");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "v1-reloaded";
+        });
+        loading.await();
+
+        // deleteUser 커밋 후 @CacheEvict
+        cache.evict(1L);
+        release.countDown();
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> counter("cache.refresh.discarded") == 1);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void refreshDoesNotOverwriteEntryReplacedByOtherNode() throws Exception {
+        seedExpired(1L, "v1");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        cache.get(1L, () -> {
+            loading.countDown();
+            release.await();
+            return "v1-reloaded";
+        });
+        loading.await();
+
+        // 다른 노드의 @CachePut (이 노드의 RefreshAheadCache 를 거치지 않음)
+        remote.put(1L, new RefreshableValue("v2", System.currentTimeMillis() + 60_000, 1));
+        release.countDown();
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> counter("cache.refresh.discarded") == 1);
+        assertThat(cache.get(1L).get()).isEqualTo("v2");
+    }
+
+    @Test
+    void refreshStoresReloadedValueWithoutConcurrentWrite() {
+        seedExpired(1L, "v1");
+
+        assertThat(cache.get(1L, () -> "v1-reloaded")).isEqualTo("v1");
+
+        await().atMost(Duration.ofSeconds(2)).until(() -> "v1-reloaded".equals(cache.get(1L).get()));
+        assertThat(counter("cache.refresh.discarded")).isZero();
+    }
+}
@@ -0,0 +1,167 @@
+package com.template.tspringbootjava.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * single-flight 로딩 테스트
+ * - 동시 miss 는 loader 1회 실행, 결과/예외를 대기 중인 요청과 공유
+ * - lease 를 획득하지 못하면 waitTimeout 동안 대기 후 직접 로딩
+ * - miss 1건당 하위 캐시 조회는 1회 (RefreshAheadCache -> SingleFlightCache)
+ */
+class SingleFlightCacheTest {
+
+    private static final SingleFlightProperties.Lease NO_LEASE =
+            new SingleFlightProperties.Lease(false, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMillis(20));
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double coalesced(String cacheName) {
+        return meterRegistry.get("cache.singleflight.coalesced").tag("cache", cacheName).counter().count();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("coalesce"), NO_LEASE, null, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "v";
+            })));
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> coalesced("coalesce") == 7);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("v");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get("k").get()).isEqualTo("v");
+    }
+
+    @Test
+    void loaderFailureIsPropagatedToWaiters() throws Exception {
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("failure"), NO_LEASE, null, meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> cache.get("k", () -> {
+                release.await();
+                throw failure;
+            })));
+        }
+        await().atMost(Duration.ofSeconds(2)).until(() -> coalesced("failure") == 3);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+                    .hasRootCause(failure);
+        }
+        // 실패한 로딩은 남지 않음: 다음 요청은 다시 로딩
+        assertThat(cache.get("k", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void leaseWaitTimeoutFallsBackToDirectLoad() {
+        SingleFlightProperties.Lease leaseProperties =
+                new SingleFlightProperties.Lease(true, Duration.ofSeconds(2), Duration.ofMillis(200), Duration.ofMillis(20));
+        CacheLoadLease lease = mock(CacheLoadLease.class);
+        when(lease.leaseKey(anyString(), any())).thenReturn("cache:lease:lease::k");
+        when(lease.tryAcquire("cache:lease:lease::k")).thenReturn(false); // 다른 노드가 로딩 중
+        SingleFlightCache cache = new SingleFlightCache(new ConcurrentMapCache("lease"), leaseProperties, lease, meterRegistry);
+
+        long start = System.nanoTime();
+        String value = cache.get("k", () -> "v");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(value).isEqualTo("v");
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(200);
+        assertThat(meterRegistry.get("cache.singleflight.lease").tag("result", "timeout").counter().count())
+                .isEqualTo(1);
+        assertThat(cache.get("k").get()).isEqualTo("v");
+    }
+
+    @Test
+    void leaseWaitReturnsValueStoredByOtherNode() {
+        SingleFlightProperties.Lease leaseProperties =
+                new SingleFlightProperties.Lease(true, Duration.ofSeconds(2), Duration.ofSeconds(1), Duration.ofMillis(20));
+        CacheLoadLease lease = mock(CacheLoadLease.class);
+        when(lease.leaseKey(anyString(), any())).thenReturn("cache:lease:other::k");
+        when(lease.tryAcquire("cache:lease:other::k")).thenReturn(false);
+        ConcurrentMapCache remote = new ConcurrentMapCache("other");
+        SingleFlightCache cache = new SingleFlightCache(remote, leaseProperties, lease, meterRegistry);
+
+        executor.submit(() -> {
+            Thread.sleep(100);
+            remote.put("k", "from-other-node");
+            return null;
+        });
+
+        assertThat(cache.get("k", () -> "local")).isEqualTo("from-other-node");
+    }
+
+    @Test
+    void refreshAheadMissReadsDelegateOnce() {
+        CountingCache counting = new CountingCache("count");
+        SingleFlightCache singleFlight = new SingleFlightCache(counting, NO_LEASE, null, meterRegistry);
+        RefreshAheadCache cache = new RefreshAheadCache(singleFlight,
+                new RefreshAheadProperties.CacheSpec(Duration.ofMinutes(1), Duration.ofSeconds(15), Duration.ofSeconds(30), 1.0),
+                Runnable::run, meterRegistry);
+
+        assertThat(cache.get("k", () -> "v")).isEqualTo("v");
+
+        assertThat(counting.gets).hasValue(1);
+    }
+
+    /**
+     * get(key) 호출 수 집계 (Redis GET 횟수 대용)
+     */
+    private static final class CountingCache extends ConcurrentMapCache {
+        private final AtomicInteger gets = new AtomicInteger();
+
+        private CountingCache(String name) {
+            super(name);
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            gets.incrementAndGet();
+            return super.get(key);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.template.tspringbootjava.controller.v1.user;
+
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.repository.UserRepository;
+import com.template.tspringbootjava.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 API 조건부 GET(304) 테스트
+ * - 단건: 캐시 miss(DTO 직렬화) / hit(userJson) 경로의 ETag 가 같아야 함 (identity, gzip)
+ * - 목록: 캐시 세대 기반 weak ETag
+ * - gzip-threshold 0: 모든 userJson 값에 gzip 저장
+ */
+@IntegrationTest
+@TestPropertySource(properties = "app.cache.pre-encoded-json.gzip-threshold=0B")
+class UserETagTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long id;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now(); // 나노초 정밀도 (DB 는 마이크로초, 캐시는 밀리초로 저장)
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        id = userRepository.save(UserEntity.builder()
+                .email("etag-" + unique + "@example.com")
+                .password("password")
+                .name("etag")
+                .phoneNumber("010-1234-5678")
+                .status(UserStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build()).getId();
+    }
+
+    @Test
+    void userETagIsStableAcrossCacheMissAndHit() throws Exception {
+        // miss: DTO 직렬화 경로
+        String etag = mockMvc.perform(get("/api/v1/users/{id}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo("\"" + id + "-0\"");
+
+        // hit: userJson 경로
+        mockMvc.perform(get("/api/v1/users/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        mockMvc.perform(get("/api/v1/users/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    void userNotModifiedOnCacheMiss() throws Exception {
+        mockMvc.perform(get("/api/v1/users/{id}", id).header(HttpHeaders.IF_NONE_MATCH, "\"" + id + "-0\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void gzipUserNotModified() throws Exception {
+        // miss 응답으로 userJson 저장 후 hit: 미리 압축된 응답
+        mockMvc.perform(get("/api/v1/users/{id}", id)).andExpect(status().isOk());
+        String etag = mockMvc.perform(get("/api/v1/users/{id}", id).header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo("\"" + id + "-0-gzip\"");
+
+        mockMvc.perform(get("/api/v1/users/{id}", id)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updatedUserIsModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/users/{id}", id))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/api/v1/users/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"etag-updated\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/users/{id}", id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-1\""));
+    }
+
+    @Test
+    void userListNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/v1/users").param("size", "5"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).startsWith("W/\"");
+
+        mockMvc.perform(get("/api/v1/users").param("size", "5").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // 목록 ETag 는 압축 여부와 무관 (weak)
+        mockMvc.perform(get("/api/v1/users").param("size", "5")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,61 @@
+package com.template.tspringbootjava.controller.v1.user;
+
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
+import com.template.tspringbootjava.repository.UserRepository;
+import com.template.tspringbootjava.service.UserEmailFilter;
+import com.template.tspringbootjava.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 이메일 중복 생성 테스트
+ * - 사전 검사(Bloom filter)가 놓친 중복: users.email unique 제약조건 위반 -> 409 EMAIL_CONFLICT
+ * - mock UserEmailFilter: 항상 "확실히 없음" (동시 생성으로 사전 검사를 통과한 경우 재현)
+ */
+@IntegrationTest
+class UserEmailConflictTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private UserEmailFilter userEmailFilter;
+
+    @Test
+    void uniqueViolationIsEmailConflict() throws Exception {
+        Instant now = Instant.now();
+        String email = "conflict-" + UUID.randomUUID().toString().substring(0, 8) + "@example.com";
+        userRepository.save(UserEntity.builder()
+                .email(email)
+                .password("password")
+                .name("conflict")
+                .phoneNumber("010-1234-5678")
+                .status(UserStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+
+        mockMvc.perform(post("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "password1234", "name": "conflict", "phoneNumber": "010-1234-5678"}
+                                """.formatted(email)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value(UserErrorCode.EMAIL_CONFLICT.getCode()));
+    }
+}
@@ -0,0 +1,106 @@
+package com.template.tspringbootjava.controller.v1.user;
+
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.monitoring.QueryBudget;
+import com.template.tspringbootjava.monitoring.QueryBudgetProperties;
+import com.template.tspringbootjava.monitoring.QueryCountResponseAdvice;
+import com.template.tspringbootjava.repository.UserRepository;
+import com.template.tspringbootjava.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 조회 API DB 쿼리 예산 테스트 (app.query-budget.action = fail)
+ * - 캐시 miss 기준 경로별 정확한 쿼리 수 검증 (X-Query-Count), 예산 초과는 500
+ * - 사용자는 Repository 로 직접 저장 (API 생성 시 채워지는 캐시를 거치지 않음)
+ * - 목록: 캐시 key 가 겹치지 않도록 page = 사용자 id, size = 1 (count 쿼리 생략 조건에 걸리지 않음)
+ * - max-staleness 0: 추정치 경로는 매 요청 재조회 (작은 테이블은 n_live_tup + count)
+ */
+@IntegrationTest
+@TestPropertySource(properties = "app.user-count.max-staleness=0s")
+class UserQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        assertThat(queryBudget.properties().action()).isEqualTo(QueryBudgetProperties.Action.FAIL);
+
+        Instant now = Instant.now();
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(UserEntity.builder()
+                .email("budget-" + unique + "@example.com")
+                .password("password")
+                .name("budget")
+                .phoneNumber("010-1234-5678")
+                .status(UserStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    @Test
+    void getUserOnCacheMissRunsOneQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/users/{id}", user.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(queryCount(result)).isEqualTo(1);
+    }
+
+    @Test
+    void getUsersWithExactCountRunsListAndCount() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/users")
+                        .param("exactCount", "true")
+                        .param("page", String.valueOf(user.getId()))
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(queryCount(result)).isEqualTo(2);
+    }
+
+    @Test
+    void getUsersWithEstimatedCountRunsListAndRefresh() throws Exception {
+        // 목록 + n_live_tup + (작은 테이블) count(*)
+        MvcResult result = mockMvc.perform(get("/api/v1/users")
+                        .param("page", String.valueOf(user.getId()))
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(queryCount(result)).isEqualTo(3);
+        assertThat(queryCount(result)).isLessThanOrEqualTo(maxQueries("/api/v1/users"));
+    }
+
+    private int maxQueries(String uri) {
+        return queryBudget.properties().maxQueries("GET", uri);
+    }
+
+    private static int queryCount(MvcResult result) {
+        String header = result.getResponse().getHeader(QueryCountResponseAdvice.QUERY_COUNT_HEADER);
+        assertThat(header).isNotNull();
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,42 @@
+package com.template.tspringbootjava.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 sampling 테스트
+ * - key 별 window 당 최대 maxPerWindow 건, 다음 window 의 첫 기록에 생략 건수 전달
+ */
+class LogSamplerTest {
+
+    @Test
+    void limitsPerKeyWithinWindow() {
+        LogSampler sampler = new LogSampler(1, TimeUnit.HOURS, 2);
+
+        assertThat(sampler.acquire("a")).isZero();
+        assertThat(sampler.acquire("a")).isZero();
+        assertThat(sampler.acquire("a")).isEqualTo(LogSampler.SKIP);
+        assertThat(sampler.acquire("a")).isEqualTo(LogSampler.SKIP);
+
+        // 다른 key 는 따로 집계
+        assertThat(sampler.acquire("b")).isZero();
+    }
+
+    @Test
+    void reportsSuppressedCountInNextWindow() throws InterruptedException {
+        LogSampler sampler = new LogSampler(200, TimeUnit.MILLISECONDS, 1);
+
+        assertThat(sampler.acquire("a")).isZero();
+        assertThat(sampler.acquire("a")).isEqualTo(LogSampler.SKIP);
+        assertThat(sampler.acquire("a")).isEqualTo(LogSampler.SKIP);
+
+        Thread.sleep(250);
+        assertThat(sampler.acquire("a")).isEqualTo(2);
+        // 전달 후 초기화
+        Thread.sleep(250);
+        assertThat(sampler.acquire("a")).isZero();
+    }
+}
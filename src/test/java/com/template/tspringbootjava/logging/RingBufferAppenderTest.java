@@ -0,0 +1,180 @@
+package com.template.tspringbootjava.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.util.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기 batch appender 테스트
+ * - 연결된 ListAppender 로 전달 순서/누락 확인
+ * - buffer 가득 참 재현: Gate 가 첫 event 에서 전용 thread 를 멈춤 (이후 event 는 buffer 에 남음)
+ */
+class RingBufferAppenderTest {
+
+    private static final int CAPACITY = 4;
+
+    private final LoggerContext context = new LoggerContext();
+    private final Logger logger = context.getLogger("ringbuffer-test");
+    private final Gate gate = new Gate();
+    private final ListAppender<ILoggingEvent> list = new ListAppender<>();
+    private final RingBufferAppender appender = new RingBufferAppender();
+
+    @BeforeEach
+    void setUp() {
+        context.setMDCAdapter(new LogbackMDCAdapter()); // prepareForDeferredProcessing (MDC 복사)
+        gate.setContext(context);
+        gate.start();
+        list.setContext(context);
+        list.start();
+
+        appender.setContext(context);
+        appender.setName("test");
+        appender.addAppender(gate);
+        appender.addAppender(list);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void eventsAreDeliveredInOrder() {
+        gate.release.countDown();
+        appender.start(); // bufferSize 8192: 가득 차지 않음
+
+        for (int i = 0; i < 5_000; i++) {
+            appender.doAppend(event(Level.INFO, "message " + i));
+        }
+        appender.stop();
+
+        assertThat(list.list).hasSize(5_000);
+        for (int i = 0; i < 5_000; i++) {
+            assertThat(list.list.get(i).getFormattedMessage()).isEqualTo("message " + i);
+        }
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    @Test
+    void eventsBelowBlockingLevelAreDroppedWhenFull() throws InterruptedException {
+        startBlocked();
+        fill();
+
+        long started = System.nanoTime();
+        appender.doAppend(event(Level.INFO, "dropped"));
+        assertThat(System.nanoTime() - started).isLessThan(TimeUnit.MILLISECONDS.toNanos(100)); // maxBlockTime 기본값
+        assertThat(appender.getDroppedCount()).isEqualTo(1);
+
+        gate.release.countDown();
+        appender.stop();
+        assertThat(list.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("first", "buffered 0", "buffered 1", "buffered 2", "buffered 3");
+    }
+
+    @Test
+    void warnBlocksAtMostMaxBlockTimeWhenFull() throws InterruptedException {
+        appender.setMaxBlockTime(Duration.buildByMilliseconds(100));
+        startBlocked();
+        fill();
+
+        long started = System.nanoTime();
+        appender.doAppend(event(Level.WARN, "dropped after wait"));
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        assertThat(elapsedMillis).isBetween(100L, 1_000L);
+        assertThat(appender.getDroppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void warnIsKeptWhenSpaceFreesUpWithinMaxBlockTime() throws InterruptedException {
+        appender.setMaxBlockTime(Duration.buildBySeconds(5));
+        startBlocked();
+        fill();
+
+        Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            gate.release.countDown();
+        });
+        appender.doAppend(event(Level.WARN, "kept"));
+        appender.stop();
+
+        assertThat(appender.getDroppedCount()).isZero();
+        assertThat(list.list).last().extracting(ILoggingEvent::getFormattedMessage).isEqualTo("kept");
+    }
+
+    @Test
+    void stopDrainsBufferedEvents() throws InterruptedException {
+        startBlocked();
+        fill();
+        assertThat(appender.getQueueDepth()).isEqualTo(CAPACITY);
+
+        gate.release.countDown();
+        appender.stop();
+
+        assertThat(list.list).hasSize(CAPACITY + 1);
+        assertThat(appender.getQueueDepth()).isZero();
+    }
+
+    /**
+     * 첫 event 를 전달 중인 상태로 전용 thread 를 멈춤 (buffer 는 비어 있음)
+     */
+    private void startBlocked() throws InterruptedException {
+        appender.setBufferSize(CAPACITY);
+        appender.start();
+        assertThat(appender.getCapacity()).isEqualTo(CAPACITY);
+
+        appender.doAppend(event(Level.INFO, "first"));
+        assertThat(gate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void fill() {
+        for (int i = 0; i < CAPACITY; i++) {
+            appender.doAppend(event(Level.INFO, "buffered " + i));
+        }
+        assertThat(appender.getDroppedCount()).isZero();
+    }
+
+    private LoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.class.getName(), logger, level, message, null, null);
+    }
+
+    /**
+     * 첫 event 에서 release 까지 대기
+     */
+    private static final class Gate extends AppenderBase<ILoggingEvent> {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            if (entered.getCount() == 0) {
+                return;
+            }
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
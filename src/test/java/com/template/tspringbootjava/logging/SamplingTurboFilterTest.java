@@ -0,0 +1,79 @@
+package com.template.tspringbootjava.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import ch.qos.logback.core.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * hot path 로그 sampling 테스트 (root logger 에 연결한 ListAppender 로 기록된 로그 확인)
+ * - 대상 logger 의 INFO 이하만 메시지 형식별 maxPerInterval 건, WARN 이상과 다른 logger 는 모두 기록
+ */
+class SamplingTurboFilterTest {
+
+    private static final int MAX_PER_INTERVAL = 2;
+
+    private final LoggerContext context = new LoggerContext();
+    private final ListAppender<ILoggingEvent> list = new ListAppender<>();
+    private final SamplingTurboFilter filter = new SamplingTurboFilter();
+
+    @BeforeEach
+    void setUp() {
+        list.setContext(context);
+        list.start();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).addAppender(list);
+
+        filter.setContext(context);
+        filter.addLogger("com.example.hot");
+        filter.setMaxPerInterval(MAX_PER_INTERVAL);
+        filter.setInterval(Duration.buildBySeconds(3600));
+        filter.start();
+        context.addTurboFilter(filter);
+    }
+
+    @Test
+    void samplesInfoPerMessageFormat() {
+        Logger hot = context.getLogger("com.example.hot.Service");
+        for (int i = 0; i < 5; i++) {
+            hot.info("cache miss: {}", i);
+            hot.info("cache hit: {}", i);
+        }
+
+        assertThat(list.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("cache miss: 0", "cache hit: 0", "cache miss: 1", "cache hit: 1");
+        assertThat(filter.getSuppressedCount()).isEqualTo(6);
+    }
+
+    @Test
+    void warnAndOtherLoggersAreNotSampled() {
+        Logger hot = context.getLogger("com.example.hot.Service");
+        Logger other = context.getLogger("com.example.other.Service");
+        for (int i = 0; i < 5; i++) {
+            hot.warn("failed: {}", i);
+            other.info("cache miss: {}", i);
+        }
+
+        assertThat(list.list).hasSize(10);
+        assertThat(filter.getSuppressedCount()).isZero();
+    }
+
+    @Test
+    void disabledLevelIsNotCounted() {
+        Logger hot = context.getLogger("com.example.hot.Service");
+        hot.setLevel(Level.INFO);
+        for (int i = 0; i < 5; i++) {
+            hot.debug("cache miss: {}", i);
+        }
+        hot.info("cache miss: {}", 0);
+
+        // 비활성 DEBUG 는 sampling window 를 사용하지 않음
+        assertThat(list.list).hasSize(1);
+        assertThat(filter.getSuppressedCount()).isZero();
+    }
+}
@@ -0,0 +1,48 @@
+package com.template.tspringbootjava.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scalable Bloom filter 테스트
+ * - segment 가 늘어나도 추가된 값은 항상 있다고 판단 (false negative 없음)
+ * - 전체 오탐률 < fpp * 2 (segment 마다 오탐률 절반)
+ */
+class ScalableBloomFilterTest {
+
+    private static final double FPP = 0.01;
+
+    @Test
+    void noFalseNegativesAcrossSegmentGrowth() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, FPP);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user-" + i + "@example.com");
+        }
+
+        // 100 + 200 + ... + 6400 -> 7개 segment
+        assertThat(filter.segmentCount()).isEqualTo(7);
+        assertThat(filter.count()).isEqualTo(10_000);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user-" + i + "@example.com")).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysWithinBound() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FPP);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put("user-" + i + "@example.com");
+        }
+        assertThat(filter.segmentCount()).isGreaterThan(1);
+
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("absent-" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / probes).isLessThan(FPP * 2);
+    }
+}
@@ -0,0 +1,48 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 추정 사용자 수 테스트
+ * - 통계 값이 그대로면 재조회 후에도 이 노드의 생성/삭제 건수(delta) 유지
+ * - 통계 값이 바뀌거나 정확한 count 를 사용하면 delta 제거
+ */
+class UserCountProviderTest {
+
+    // max-staleness 0: approximate() 호출마다 재조회
+    private static final UserCountProperties ALWAYS_REFRESH = new UserCountProperties(Duration.ZERO, 10_000);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCountProvider provider = new UserCountProvider(userRepository, ALWAYS_REFRESH);
+
+    @Test
+    void writesAreKeptUntilStatisticMoves() {
+        when(userRepository.estimateCount()).thenReturn(50_000L);
+        assertThat(provider.approximate()).isEqualTo(50_000L);
+
+        provider.adjustAfterCommit(3);
+        // 통계 미반영 (n_live_tup 동일)
+        assertThat(provider.approximate()).isEqualTo(50_003L);
+
+        when(userRepository.estimateCount()).thenReturn(50_003L);
+        assertThat(provider.approximate()).isEqualTo(50_003L);
+    }
+
+    @Test
+    void exactCountReplacesWrites() {
+        when(userRepository.estimateCount()).thenReturn(0L);
+        when(userRepository.count()).thenReturn(10L);
+        assertThat(provider.approximate()).isEqualTo(10L);
+
+        // count(*) 는 커밋된 생성을 이미 포함 (다른 노드의 삭제로 값이 같아도 delta 제거)
+        provider.adjustAfterCommit(1);
+        assertThat(provider.approximate()).isEqualTo(10L);
+    }
+}
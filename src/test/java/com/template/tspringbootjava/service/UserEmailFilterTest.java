@@ -0,0 +1,151 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 이메일 중복 사전 검사 테스트
+ * - 재생성(테이블 조회) 중 추가된 이메일도 새 filter 에 포함
+ * - 트랜잭션 안에서는 커밋 후 추가, 삭제 건수도 커밋 후 반영 (롤백된 삭제로 재생성하지 않음)
+ */
+class UserEmailFilterTest {
+
+    private static final String ABSENT = "absent@example.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserEmailFilter filter = new UserEmailFilter(
+            userRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new UserEmailFilterProperties(true, 100, 0.01, 0.2),
+            new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void emailAddedDuringRebuildIsKept() throws InterruptedException {
+        BlockingEmails emails = new BlockingEmails("existing@example.com");
+        when(userRepository.streamAllEmails()).thenReturn(emails.stream());
+
+        filter.warmUp();
+        assertThat(emails.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 조회 중 (생성 전 filter 는 없음): 생성 중인 filter 에만 추가됨
+        filter.addAfterCommit(List.of("during@example.com"));
+        emails.finish.countDown();
+        awaitBuilt();
+
+        assertThat(filter.mightExist("existing@example.com")).isTrue();
+        assertThat(filter.mightExist("during@example.com")).isTrue();
+    }
+
+    @Test
+    void emailIsAddedOnlyAfterCommit() throws InterruptedException {
+        when(userRepository.streamAllEmails()).thenReturn(Stream.of("existing@example.com"));
+        filter.warmUp();
+        awaitBuilt();
+
+        TransactionSynchronizationManager.initSynchronization();
+        filter.addAfterCommit(List.of("created@example.com"));
+        assertThat(filter.mightExist("created@example.com")).isFalse();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(filter.mightExist("created@example.com")).isTrue();
+    }
+
+    @Test
+    void deleteIsCountedOnlyAfterCommit() throws InterruptedException {
+        when(userRepository.streamAllEmails()).thenAnswer(invocation -> Stream.of("existing@example.com"));
+        filter.warmUp();
+        awaitBuilt();
+
+        // 롤백: afterCommit 미호출, 재생성 없음
+        TransactionSynchronizationManager.initSynchronization();
+        filter.recordDeletedAfterCommit(1);
+        TransactionSynchronizationManager.clearSynchronization();
+        verify(userRepository, after(100).times(1)).streamAllEmails();
+
+        // 커밋: 삭제 건수(1) > filter 크기(1) * 0.2 -> 재생성
+        TransactionSynchronizationManager.initSynchronization();
+        filter.recordDeletedAfterCommit(1);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(userRepository, timeout(5_000).times(2)).streamAllEmails();
+    }
+
+    private void awaitBuilt() throws InterruptedException {
+        // 생성 전에는 항상 true (조회 필요)
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (filter.mightExist(ABSENT)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 첫 이메일 반환 후 finish 까지 대기하는 조회 결과 (재생성 도중 상태 재현)
+     */
+    private static final class BlockingEmails implements Iterator<String> {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch finish = new CountDownLatch(1);
+        private String next;
+
+        private BlockingEmails(String first) {
+            this.next = first;
+        }
+
+        Stream<String> stream() {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            started.countDown();
+            try {
+                finish.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public String next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String value = next;
+            next = null;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.exception.CustomException;
+import com.template.tspringbootjava.exception.errorcode.UserErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용자 export 동시 실행 제한 테스트
+ * - max-concurrent 초과 시 대기 없이 429, close 후 다시 실행 가능 (중복 close 는 한 번만 반환)
+ */
+class UserExportLimiterTest {
+
+    private final UserExportLimiter limiter = new UserExportLimiter(new UserExportProperties(2));
+
+    @Test
+    void rejectsExportsBeyondMaxConcurrent() {
+        UserExportLimiter.Permit first = limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(limiter::acquire)
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(UserErrorCode.EXPORT_TOO_MANY);
+
+        first.close();
+        assertThat(limiter.acquire()).isNotNull();
+    }
+
+    @Test
+    void closeReleasesOnlyOnce() {
+        UserExportLimiter.Permit first = limiter.acquire();
+        first.close();
+        first.close();
+
+        limiter.acquire();
+        limiter.acquire();
+        assertThatThrownBy(limiter::acquire).isInstanceOf(CustomException.class);
+    }
+}
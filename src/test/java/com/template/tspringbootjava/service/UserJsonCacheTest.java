@@ -0,0 +1,88 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.domain.user.UserEntity;
+import com.template.tspringbootjava.domain.user.UserStatus;
+import com.template.tspringbootjava.dto.user.UserResponseDto;
+import com.template.tspringbootjava.repository.UserRepository;
+import com.template.tspringbootjava.support.IntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 응답 JSON 캐시("userJson") 저장 경로 테스트
+ * - DB 조회 loader 는 putIfAbsent: 수정으로 저장된 새 버전을 이전 버전이 덮어쓰지 않음
+ * - 수정은 put, 삭제는 evict ("users" 캐시와 같은 경로)
+ */
+@IntegrationTest
+class UserJsonCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserJsonCache userJsonCache;
+
+    private UserEntity user;
+
+    @BeforeEach
+    void setUp() {
+        Instant now = Instant.now();
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(UserEntity.builder()
+                .email("json-" + unique + "@example.com")
+                .password("password")
+                .name("json")
+                .phoneNumber("010-1234-5678")
+                .status(UserStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .build());
+    }
+
+    @Test
+    void staleLoadDoesNotOverwriteUpdatedJson() {
+        UserResponseDto loaded = UserResponseDto.from(user);
+        UserResponseDto updated = new UserResponseDto(loaded.id(), loaded.email(), "updated", loaded.phoneNumber(),
+                loaded.status(), loaded.createdAt(), Instant.now(), loaded.version() + 1);
+
+        // 로딩(version 0) 중 수정 커밋 -> 수정 경로가 먼저 저장, 이후 loader 저장은 무시
+        userJsonCache.put(updated);
+        userJsonCache.putIfAbsent(loaded);
+
+        assertThat(userJsonCache.get(user.getId()).version()).isEqualTo(1L);
+    }
+
+    @Test
+    void userJsonFollowsUsersWritePath() throws Exception {
+        // 조회 (DB loader): 저장
+        mockMvc.perform(get("/api/v1/users/{id}", user.getId())).andExpect(status().isOk());
+        assertThat(userJsonCache.get(user.getId()).version()).isEqualTo(0L);
+
+        // 수정: 새 버전으로 교체
+        mockMvc.perform(put("/api/v1/users/{id}", user.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"json-updated\"}"))
+                .andExpect(status().isOk());
+        assertThat(userJsonCache.get(user.getId()).version()).isEqualTo(1L);
+
+        // 삭제: 제거, 이후 조회는 404 (캐시된 JSON 으로 응답하지 않음)
+        mockMvc.perform(delete("/api/v1/users/{id}", user.getId())).andExpect(status().is2xxSuccessful());
+        assertThat(userJsonCache.get(user.getId())).isNull();
+        mockMvc.perform(get("/api/v1/users/{id}", user.getId())).andExpect(status().isNotFound());
+    }
+}
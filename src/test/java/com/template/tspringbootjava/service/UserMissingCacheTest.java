@@ -0,0 +1,92 @@
+package com.template.tspringbootjava.service;
+
+import com.template.tspringbootjava.dto.user.UserBatchItemResultDto;
+import com.template.tspringbootjava.dto.user.UserCreateRequestDto;
+import com.template.tspringbootjava.support.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * negative cache("userMissing") 테스트
+ * - tombstone 은 id 단위, 사용자 생성 커밋 후 생성된 id 는 CREATED 로 기록 (다른 id 의 tombstone 유지)
+ * - 없는 id 첫 조회도 DB 조회 1회
+ */
+@IntegrationTest
+class UserMissingCacheTest {
+
+    // 시퀀스로 할당되지 않는 id
+    private static final long UNKNOWN_ID = Long.MAX_VALUE - 1;
+    private static final long OTHER_UNKNOWN_ID = Long.MAX_VALUE - 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserMissingCache userMissingCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private static UserCreateRequestDto request() {
+        String unique = UUID.randomUUID().toString().substring(0, 8);
+        return new UserCreateRequestDto("missing-" + unique + "@example.com", "password", "missing", "010-1234-5678");
+    }
+
+    @Test
+    void unknownIdIsRecordedAndServedWithoutDb() throws Exception {
+        mockMvc.perform(get("/api/v1/users/{id}", UNKNOWN_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertThat(result.getResponse().getHeader("X-Query-Count")).isEqualTo("1"));
+        assertThat(userMissingCache.isMissing(UNKNOWN_ID)).isTrue();
+
+        mockMvc.perform(get("/api/v1/users/{id}", UNKNOWN_ID))
+                .andExpect(status().isNotFound())
+                .andExpect(result -> assertThat(result.getResponse().getHeader("X-Query-Count")).isEqualTo("0"));
+    }
+
+    @Test
+    void createdIdIsNoLongerReportedMissing() throws Exception {
+        userMissingCache.markMissing(OTHER_UNKNOWN_ID);
+
+        Long id = transactionTemplate.execute(status -> {
+            Long createdId = userService.createUser(request()).id();
+            // 커밋 전 다른 요청의 조회가 기록한 tombstone
+            userMissingCache.markMissing(createdId);
+            return createdId;
+        });
+
+        assertThat(userMissingCache.isMissing(id)).isFalse();
+
+        // 커밋 전에 조회(행 없음)한 요청이 커밋 후에 기록: CREATED 유지
+        userMissingCache.markMissing(id);
+        assertThat(userMissingCache.isMissing(id)).isFalse();
+        mockMvc.perform(get("/api/v1/users/{id}", id)).andExpect(status().isOk());
+        // 다른 id 의 tombstone 은 유지
+        assertThat(userMissingCache.isMissing(OTHER_UNKNOWN_ID)).isTrue();
+    }
+
+    @Test
+    void batchCreatedIdsAreNoLongerReportedMissing() {
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Long> createdIds = userService.createUsers(List.of(request(), request())).results().stream()
+                    .map(UserBatchItemResultDto::id)
+                    .toList();
+            createdIds.forEach(userMissingCache::markMissing);
+            return createdIds;
+        });
+
+        assertThat(ids).hasSize(2).allSatisfy(id -> assertThat(userMissingCache.isMissing(id)).isFalse());
+    }
+}
@@ -0,0 +1,77 @@
+package com.template.tspringbootjava.support;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 통합 테스트 실행 환경 (@IntegrationTest)
+ * - PostgreSQL: embedded (zonky) + schema.sql, Redis: embedded (embedded-redis)
+ * - JVM 당 한 번 시작하여 모든 테스트 context 가 공유, JVM 종료 시 정리
+ */
+public class EmbeddedInfrastructure implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+    @Override
+    public void initialize(ConfigurableApplicationContext context) {
+        Servers servers = Servers.INSTANCE;
+        TestPropertyValues.of(
+                "spring.datasource.url=" + servers.postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true",
+                "spring.datasource.username=postgres",
+                "spring.datasource.password=",
+                "spring.data.redis.host=localhost",
+                "spring.data.redis.port=" + servers.redisPort,
+                "spring.data.redis.password="
+        ).applyTo(context.getEnvironment());
+    }
+
+    /**
+     * 최초 사용 시 시작 (holder idiom)
+     */
+    private static final class Servers {
+        private static final Servers INSTANCE = new Servers();
+
+        private final EmbeddedPostgres postgres;
+        private final RedisServer redis;
+        private final int redisPort;
+
+        private Servers() {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+                try (Connection connection = postgres.getPostgresDatabase().getConnection()) {
+                    ScriptUtils.executeSqlScript(connection, new ClassPathResource("schema.sql"));
+                }
+
+                try (ServerSocket socket = new ServerSocket(0)) {
+                    redisPort = socket.getLocalPort();
+                }
+                redis = new RedisServer(redisPort);
+                redis.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SQLException e) {
+                throw new IllegalStateException("schema.sql 실행 실패", e);
+            }
+
+            Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "embedded-infrastructure-stop"));
+        }
+
+        private void stop() {
+            try {
+                redis.stop();
+                postgres.close();
+            } catch (IOException ignored) {
+                // JVM 종료 중
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.template.tspringbootjava.support;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 통합 테스트 (embedded PostgreSQL, Redis + MockMvc)
+ * - test profile: app.query-budget.action = fail (API 별 DB 쿼리 예산 초과 시 500)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ContextConfiguration(initializers = EmbeddedInfrastructure.class)
+public @interface IntegrationTest {
+}
@@ -0,0 +1,16 @@
+-- README "setup user table" 과 동일하게 유지 (통합 테스트, 부하 테스트 공용)
+CREATE TABLE users (
+   id BIGSERIAL PRIMARY KEY,
+   email VARCHAR(50) NOT NULL UNIQUE,
+   password VARCHAR(50) NOT NULL,
+   name VARCHAR(50) NOT NULL,
+   phone_number VARCHAR(20) NOT NULL,
+   status VARCHAR(20) NOT NULL,
+   created_at TIMESTAMP NOT NULL,
+   updated_at TIMESTAMP NOT NULL,
+   version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_users_created_at_id ON users(created_at DESC, id DESC);
+
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;